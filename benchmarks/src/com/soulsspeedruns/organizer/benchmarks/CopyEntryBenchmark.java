@@ -0,0 +1,97 @@
+package com.soulsspeedruns.organizer.benchmarks;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.soulsspeedruns.organizer.main.config.SortingCategory;
+import com.soulsspeedruns.organizer.managers.BenchmarkEnvironment;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+import com.soulsspeedruns.organizer.savelist.Folder;
+import com.soulsspeedruns.organizer.savelist.RootFolder;
+import com.soulsspeedruns.organizer.savelist.SaveListEntry;
+
+
+/**
+ * CopyEntryBenchmark.
+ * <p>
+ * Measures copying a savestate into another folder of the profile, as done when copying and pasting in the save list.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CopyEntryBenchmark
+{
+
+	@Param({ "2", "10", "30" })
+	private int payloadMegabytes;
+
+	private File directory;
+	private SaveListEntry save;
+	private Folder destination;
+
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		BenchmarkEnvironment.initialize();
+		// new children are inserted in the order of the selected sorting category
+		SavesManager.setSelectedSortingCategory(SortingCategory.ALPHABET);
+		directory = Files.createTempDirectory("sso-copy-benchmark").toFile();
+		File source = new File(directory, "Source");
+		File target = new File(directory, "Target");
+		source.mkdirs();
+		target.mkdirs();
+		Files.write(new File(source, "DRAKS0005.sl2").toPath(), SyntheticData.createSavefile(payloadMegabytes * 1024 * 1024, 1));
+
+		save = new RootFolder(source).getChildren().get(0);
+		destination = new RootFolder(target);
+	}
+
+
+	@TearDown(Level.Invocation)
+	public void clearDestination()
+	{
+		for (SaveListEntry entry : destination.getChildren())
+			entry.getFile().delete();
+		destination.clearChildren();
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		OrganizerManager.deleteDirectory(directory);
+	}
+
+
+	@Benchmark
+	public void copyEntry() throws IOException
+	{
+		SavesManager.copyEntry(save, destination, false);
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.soulsspeedruns.organizer.benchmarks;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.soulsspeedruns.organizer.io.CachedSave;
+import com.soulsspeedruns.organizer.io.LatencyMetrics;
+import com.soulsspeedruns.organizer.io.LoadMetrics;
+import com.soulsspeedruns.organizer.io.SaveCache;
+import com.soulsspeedruns.organizer.io.SaveLoader;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+
+
+/**
+ * LoadBenchmark.
+ * <p>
+ * Measures loading savestates over a gamefile, i.e. what SavesManager.loadSave does on the loading thread once a load was requested. Alternates
+ * between two saves that only differ in a few slots, like practice saves of the same character usually do.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark
+{
+
+	@Param({ "2", "10", "30" })
+	private int payloadMegabytes;
+
+	@Param({ "4" })
+	private int changedSlots;
+
+	@Param({ "true", "false" })
+	private boolean cached;
+
+	@Param({ "true", "false" })
+	private boolean deltaLoads;
+
+	@Param({ "true", "false" })
+	private boolean atomicLoads;
+
+	private File directory;
+	private File gameFile;
+	private File firstSave;
+	private File secondSave;
+
+	private SaveCache cache;
+	private SaveLoader loader;
+	private boolean loadFirst;
+
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory("sso-load-benchmark").toFile();
+		byte[] first = SyntheticData.createSavefile(payloadMegabytes * 1024 * 1024, 1);
+		byte[] second = SyntheticData.deriveSavefile(first, changedSlots, 2);
+
+		gameFile = new File(directory, "DRAKS0005.sl2");
+		firstSave = new File(directory, "First.sl2");
+		secondSave = new File(directory, "Second.sl2");
+		Files.write(gameFile.toPath(), first);
+		Files.write(firstSave.toPath(), first);
+		Files.write(secondSave.toPath(), second);
+
+		cache = new SaveCache(cached ? 2L * payloadMegabytes * 1024 * 1024 : 0);
+		loader = new SaveLoader(new LoadMetrics(), new LatencyMetrics(), false, deltaLoads, atomicLoads);
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		OrganizerManager.deleteDirectory(directory);
+	}
+
+
+	@Benchmark
+	public boolean loadAlternating() throws IOException
+	{
+		loadFirst = !loadFirst;
+		CachedSave content = cache.get(loadFirst ? firstSave : secondSave);
+		return loader.load(content, gameFile, true, null);
+	}
+
+}
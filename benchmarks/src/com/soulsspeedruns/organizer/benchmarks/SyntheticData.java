@@ -0,0 +1,103 @@
+package com.soulsspeedruns.organizer.benchmarks;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+
+/**
+ * SyntheticData.
+ * <p>
+ * Creates savefiles and profile trees to run the benchmarks against.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SyntheticData
+{
+
+	/**
+	 * Size of a save slot in the generated savefiles. Souls savefiles are containers of fixed size slots of a few hundred KB each.
+	 */
+	public static final int SLOT_SIZE = 256 * 1024;
+
+
+	private SyntheticData()
+	{
+	}
+
+
+	/**
+	 * Creates the contents of a savefile of the given size. Same seeds give the same contents.
+	 *
+	 * @param size the size in bytes
+	 * @param seed the seed for the contents
+	 * @return the contents
+	 */
+	public static byte[] createSavefile(int size, long seed)
+	{
+		byte[] data = new byte[size];
+		new Random(seed).nextBytes(data);
+		return data;
+	}
+
+
+	/**
+	 * Returns a copy of the given savefile in which only the given number of slots were changed, like between two practice saves of the same
+	 * character.
+	 *
+	 * @param data         the savefile to derive from
+	 * @param changedSlots the number of slots to change
+	 * @param seed         the seed for the changes
+	 * @return the changed savefile
+	 */
+	public static byte[] deriveSavefile(byte[] data, int changedSlots, long seed)
+	{
+		byte[] derived = data.clone();
+		Random random = new Random(seed);
+		int slotCount = Math.max(1, data.length / SLOT_SIZE);
+		for (int i = 0; i < changedSlots; i++)
+		{
+			int slot = random.nextInt(slotCount);
+			int offset = slot * SLOT_SIZE + random.nextInt(Math.min(SLOT_SIZE, data.length - slot * SLOT_SIZE));
+			int length = Math.min(4096, data.length - offset);
+			byte[] change = new byte[length];
+			random.nextBytes(change);
+			System.arraycopy(change, 0, derived, offset, length);
+		}
+		return derived;
+	}
+
+
+	/**
+	 * Creates a profile tree below the given directory. Every folder holds the given number of savefiles and, unless the maximum depth is
+	 * reached, the given number of sub folders.
+	 *
+	 * @param directory      the directory to create the tree in
+	 * @param depth          the number of folder levels below the directory
+	 * @param width          the number of sub folders per folder
+	 * @param savesPerFolder the number of savefiles per folder
+	 * @param saveSize       the size of each savefile in bytes
+	 * @return the number of created savefiles
+	 * @throws IOException
+	 */
+	public static int createTree(File directory, int depth, int width, int savesPerFolder, int saveSize) throws IOException
+	{
+		directory.mkdirs();
+		byte[] contents = createSavefile(saveSize, depth);
+		int created = 0;
+		for (int i = 0; i < savesPerFolder; i++)
+		{
+			Files.write(new File(directory, "Save " + i + ".sl2").toPath(), contents);
+			created++;
+		}
+		if (depth == 0)
+			return created;
+		for (int i = 0; i < width; i++)
+			created += createTree(new File(directory, "Folder " + i), depth - 1, width, savesPerFolder, saveSize);
+		return created;
+	}
+
+}
@@ -0,0 +1,169 @@
+package com.soulsspeedruns.organizer.benchmarks;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.soulsspeedruns.organizer.main.config.SortingCategory;
+import com.soulsspeedruns.organizer.managers.BenchmarkEnvironment;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+import com.soulsspeedruns.organizer.savelist.Folder;
+import com.soulsspeedruns.organizer.savelist.RootFolder;
+import com.soulsspeedruns.organizer.savelist.SaveListEntry;
+
+
+/**
+ * TreeBenchmark.
+ * <p>
+ * Measures scanning, copying and deleting synthetic profile trees of configurable depth and width.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeBenchmark
+{
+
+	@Param({ "2", "4" })
+	private int depth;
+
+	@Param({ "4", "8" })
+	private int width;
+
+	@Param({ "4" })
+	private int savesPerFolder;
+
+	@Param({ "64" })
+	private int saveKilobytes;
+
+	private File directory;
+	private File tree;
+
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		BenchmarkEnvironment.initialize();
+		// new children are inserted in the order of the selected sorting category
+		SavesManager.setSelectedSortingCategory(SortingCategory.ALPHABET);
+		directory = Files.createTempDirectory("sso-tree-benchmark").toFile();
+		tree = new File(directory, "Profile");
+		SyntheticData.createTree(tree, depth, width, savesPerFolder, saveKilobytes * 1024);
+	}
+
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		OrganizerManager.deleteDirectory(directory);
+	}
+
+
+	@Benchmark
+	public int scanProfile()
+	{
+		return loadTree(new RootFolder(tree));
+	}
+
+
+	@Benchmark
+	public void copyDirectory(CopyTarget target) throws IOException
+	{
+		OrganizerManager.copyDirectory(tree, target.directory);
+	}
+
+
+	@Benchmark
+	public boolean deleteDirectory(DeleteSource source)
+	{
+		return OrganizerManager.deleteDirectory(source.directory);
+	}
+
+
+	/**
+	 * Loads the children of the given folder and of all folders below it, since folders only list their directory on first access.
+	 *
+	 * @param folder the folder
+	 * @return the number of entries below the folder
+	 */
+	private static int loadTree(Folder folder)
+	{
+		int count = 0;
+		for (SaveListEntry child : folder.getChildren())
+		{
+			count++;
+			if (child instanceof Folder)
+				count += loadTree((Folder) child);
+		}
+		return count;
+	}
+
+
+	/**
+	 * Directory to copy the tree into, deleted again after every copy.
+	 */
+	@State(Scope.Thread)
+	public static class CopyTarget
+	{
+
+		private File directory;
+
+
+		@Setup(Level.Trial)
+		public void setUp(TreeBenchmark benchmark)
+		{
+			directory = new File(benchmark.directory, "Copy");
+		}
+
+
+		@TearDown(Level.Invocation)
+		public void tearDown()
+		{
+			OrganizerManager.deleteDirectory(directory);
+		}
+
+	}
+
+
+	/**
+	 * Fresh copy of the tree, created before every deletion.
+	 */
+	@State(Scope.Thread)
+	public static class DeleteSource
+	{
+
+		private File directory;
+
+
+		@Setup(Level.Invocation)
+		public void setUp(TreeBenchmark benchmark) throws IOException
+		{
+			directory = new File(benchmark.directory, "Delete");
+			OrganizerManager.copyDirectory(benchmark.tree, directory);
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.soulsspeedruns.organizer.managers;
+
+
+import java.io.IOException;
+import java.util.prefs.BackingStoreException;
+
+
+/**
+ * BenchmarkEnvironment.
+ * <p>
+ * Initializes the managers that the benchmarked code paths depend on, without opening any windows or establishing the keyboard hook. Lives in
+ * the managers package since the initialize methods of the managers are not public.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class BenchmarkEnvironment
+{
+
+	/**
+	 * Path of the preferences used while benchmarking, kept apart from the preferences of the organizer installed on this machine.
+	 */
+	private static final String PREFERENCES_PATH = "/com/soulsspeedruns/organizer/benchmarks";
+
+	private static boolean initialized = false;
+
+
+	/**
+	 * Initializes the icons, preferences and the SavesManager once per JVM. The preferences are kept in a node of their own that starts out empty,
+	 * so every setting has its default until a benchmark sets it explicitly.
+	 *
+	 * @throws IOException if the preferences could not be cleared
+	 */
+	public static synchronized void initialize() throws IOException
+	{
+		if (initialized)
+			return;
+		System.setProperty("java.awt.headless", "true");
+		VersionManager.initialize();
+		IconsAndFontsManager.initialize();
+		try
+		{
+			SettingsManager.initializePreferences(PREFERENCES_PATH);
+		}
+		catch (BackingStoreException e)
+		{
+			throw new IOException(e);
+		}
+		SavesManager.initialize();
+		initialized = true;
+	}
+
+}
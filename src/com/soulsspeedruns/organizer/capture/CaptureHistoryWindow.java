@@ -0,0 +1,230 @@
+package com.soulsspeedruns.organizer.capture;
+
+
+import java.awt.Dialog;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.swing.BorderFactory;
+import javax.swing.GroupLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.io.CaptureHistory.Capture;
+import com.soulsspeedruns.organizer.listeners.CaptureListener;
+import com.soulsspeedruns.organizer.managers.IconsAndFontsManager;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+import com.soulsspeedruns.organizer.managers.SettingsManager;
+
+
+/**
+ * CaptureHistoryWindow.
+ * <p>
+ * Shows the states of the gamefile captured for a profile, newest first, and allows turning them into savestates.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class CaptureHistoryWindow extends JDialog implements CaptureListener
+{
+
+	private static final String[] COLUMN_NAMES = { "Captured", "Size" };
+
+	private final Profile profile;
+	private CaptureTableModel tableModel;
+	private JTable table;
+
+
+	/**
+	 * Creates a new CaptureHistoryWindow for the given profile.
+	 *
+	 * @param profile the profile to show the captures of
+	 */
+	public CaptureHistoryWindow(Profile profile)
+	{
+		super(OrganizerManager.getMainWindow(), "Capture History - " + profile.getName(), Dialog.ModalityType.MODELESS);
+		this.profile = profile;
+
+		initLayout();
+		initProperties();
+
+		setVisible(true);
+	}
+
+
+	/**
+	 * Inits the properties.
+	 */
+	private void initProperties()
+	{
+		pack();
+		setIconImage(IconsAndFontsManager.getSoulsSpeedrunsImage(IconsAndFontsManager.ICON_SIZE_MEDIUM));
+		setLocationRelativeTo(OrganizerManager.getMainWindow());
+		setAlwaysOnTop(SettingsManager.isAlwaysOnTop());
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		SavesManager.getCaptureEngine().addCaptureListener(this);
+		addWindowListener(new WindowAdapter() {
+
+			@Override
+			public void windowOpened(WindowEvent e)
+			{
+				SwingUtilities.invokeLater(() -> {
+					SwingUtilities.updateComponentTreeUI(CaptureHistoryWindow.this);
+				});
+			}
+
+
+			@Override
+			public void windowClosed(WindowEvent e)
+			{
+				SavesManager.getCaptureEngine().removeCaptureListener(CaptureHistoryWindow.this);
+			}
+		});
+	}
+
+
+	/**
+	 * Inits the layout.
+	 */
+	private void initLayout()
+	{
+		JPanel guiPanel = new JPanel();
+		GroupLayout layout = new GroupLayout(guiPanel);
+		layout.setAutoCreateGaps(true);
+		layout.setAutoCreateContainerGaps(true);
+		guiPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+
+		tableModel = new CaptureTableModel();
+		tableModel.setCaptures(SavesManager.getCaptureEngine().getHistory(profile).getCaptures());
+		table = new JTable(tableModel);
+		table.setFillsViewportHeight(true);
+		table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		table.getTableHeader().setReorderingAllowed(false);
+		JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(360, table.getRowHeight() * 12));
+
+		JButton promoteButton = new JButton("Import As Savestate");
+		promoteButton.setEnabled(false);
+		promoteButton.addActionListener(event -> {
+			Capture capture = tableModel.getCapture(table.getSelectedRow());
+			if (capture != null)
+				SavesManager.promoteCapture(capture);
+		});
+		table.getSelectionModel().addListSelectionListener(event -> promoteButton.setEnabled(table.getSelectedRow() != -1));
+
+		// Horizontal
+		GroupLayout.ParallelGroup hGroup = layout.createParallelGroup(GroupLayout.Alignment.TRAILING);
+
+		hGroup.addComponent(scrollPane);
+		hGroup.addComponent(promoteButton);
+
+		layout.setHorizontalGroup(hGroup);
+
+		// Vertical
+		GroupLayout.SequentialGroup vGroup = layout.createSequentialGroup();
+
+		vGroup.addComponent(scrollPane);
+		vGroup.addComponent(promoteButton);
+
+		layout.setVerticalGroup(vGroup);
+
+		guiPanel.setLayout(layout);
+		add(guiPanel);
+	}
+
+
+	@Override
+	public void gameFileCaptured(Profile profile, Capture capture)
+	{
+		if (profile != this.profile)
+			return;
+		Capture selected = tableModel.getCapture(table.getSelectedRow());
+		tableModel.setCaptures(SavesManager.getCaptureEngine().getHistory(profile).getCaptures());
+		int row = tableModel.indexOf(selected);
+		if (row != -1)
+			table.setRowSelectionInterval(row, row);
+	}
+
+
+	/**
+	 * Table model showing one row per capture.
+	 */
+	private static class CaptureTableModel extends AbstractTableModel
+	{
+
+		private final DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM);
+		private List<Capture> captures = new ArrayList<>();
+
+
+		private void setCaptures(List<Capture> captures)
+		{
+			this.captures = captures;
+			fireTableDataChanged();
+		}
+
+
+		private Capture getCapture(int row)
+		{
+			return row >= 0 && row < captures.size() ? captures.get(row) : null;
+		}
+
+
+		private int indexOf(Capture capture)
+		{
+			return captures.indexOf(capture);
+		}
+
+
+		@Override
+		public int getRowCount()
+		{
+			return captures.size();
+		}
+
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMN_NAMES.length;
+		}
+
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return COLUMN_NAMES[column];
+		}
+
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			Capture capture = captures.get(row);
+			if (column == 0)
+				return dateFormat.format(new Date(capture.getTime()));
+			return capture.getSize() / 1024 + " KB";
+		}
+
+
+		@Override
+		public boolean isCellEditable(int row, int column)
+		{
+			return false;
+		}
+
+	}
+
+}
@@ -14,6 +14,8 @@ import com.github.weisj.darklaf.theme.event.ThemeChangeEvent;
 import com.github.weisj.darklaf.theme.event.ThemeChangeListener;
 import com.soulsspeedruns.organizer.games.Game;
 import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.io.GameFileState;
+import com.soulsspeedruns.organizer.listeners.GameFileListener;
 import com.soulsspeedruns.organizer.listeners.ProfileListener;
 import com.soulsspeedruns.organizer.listeners.SaveListener;
 import com.soulsspeedruns.organizer.listeners.SettingsListener;
@@ -30,12 +32,13 @@ import com.soulsspeedruns.organizer.savelist.SaveListEntry;
 /**
  * Read Only Button.
  * <p>
- * Button to make the given file read-only and vice-versa.
+ * Button to make the given file read-only and vice-versa. Shows the state of the gamefile published by the gamefile monitor, so the file itself is
+ * never touched to repaint the button.
  *
  * @author Kahmul (www.twitch.tv/kahmul78)
  * @date 26 Sep 2015
  */
-public class ReadOnlyButton extends JLabel implements MouseListener, ProfileListener, SaveListener, SettingsListener
+public class ReadOnlyButton extends JLabel implements MouseListener, GameFileListener, ProfileListener, SaveListener, SettingsListener
 {
 
 	private File file;
@@ -54,6 +57,7 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 		addMouseListener(this);
 		GamesManager.addProfileListener(this);
 		SavesManager.addSaveListener(this);
+		SavesManager.addGameFileListener(this);
 		SettingsManager.addSettingsListener(this);
 
 		LafManager.addThemeChangeListener(new ThemeChangeListener()
@@ -103,7 +107,7 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 	 */
 	public void setFile(File file)
 	{
-		if (file == null || !file.exists())
+		if (file == null || !getState(file).exists())
 		{
 			this.file = null;
 			setVisible(false);
@@ -121,13 +125,26 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 	 */
 	public void doClick()
 	{
-		if (file == null || !file.exists() || !GamesManager.getSelectedGame().supportsReadOnly())
+		if (file == null || !getState(file).exists() || !GamesManager.getSelectedGame().supportsReadOnly())
 			return;
-		file.setWritable(!file.canWrite());
+		SavesManager.switchCurrentGameFileWritableState();
 		refreshAppearance(true);
 	}
 
 
+	/**
+	 * Returns the state of the given file if it is the gamefile tracked by the monitor, otherwise the file is read.
+	 * 
+	 * @param file the file
+	 * @return the state of the file
+	 */
+	private GameFileState getState(File file)
+	{
+		GameFileState state = SavesManager.getGameFileMonitor().getState();
+		return file.equals(state.getFile()) ? state : GameFileState.read(file, null);
+	}
+
+
 	/**
 	 * Changes the image of the read-only button depending on the state of the file and whether the mouse is hovered over it.
 	 * 
@@ -135,7 +152,7 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 	 */
 	private void refreshAppearance(boolean isHovering)
 	{
-		boolean isWritable = file != null ? file.canWrite() : false;
+		boolean isWritable = file != null ? getState(file).isWritable() : false;
 		boolean showText = !SettingsManager.isCompactModeEnabled()
 				&& (!VersionManager.isVersionOutdated() || OrganizerManager.getMainWindow().getWidth() > 700);
 		if (isWritable)
@@ -219,7 +236,7 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 	public void profileDirectoryChanged(Game game)
 	{
 		setFile(game.getSaveFileLocation());
-		if (file == null || !file.exists() || !game.supportsReadOnly())
+		if (file == null || !game.supportsReadOnly())
 			setVisible(false);
 		else
 			setVisible(true);
@@ -236,13 +253,22 @@ public class ReadOnlyButton extends JLabel implements MouseListener, ProfileList
 	public void changedToGame(Game game)
 	{
 		setFile(game.getSaveFileLocation());
-		if (file == null || !file.exists() || !game.supportsReadOnly())
+		if (file == null || !game.supportsReadOnly())
 			setVisible(false);
 		else
 			setVisible(true);
 	}
 
 
+	@Override
+	public void gameFileChanged(GameFileState state)
+	{
+		if (state.getFile() == null || !state.getFile().equals(GamesManager.getSelectedGame().getSaveFileLocation()))
+			return;
+		setFile(state.getFile());
+	}
+
+
 	@Override
 	public void entryCreated(SaveListEntry entry)
 	{
@@ -1,10 +1,8 @@
 package com.soulsspeedruns.organizer.components;
 
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 import javax.swing.JTextField;
+import javax.swing.Timer;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 
@@ -25,10 +23,9 @@ public class SearchBar extends JTextField
 {
 
 	public static final String DEFAULT_TEXT = "Search...";
-	private static final int SEARCH_DELAY = 500;
+	private static final int SEARCH_DELAY = 200;
 
-	private Timer searchDelayTimer;
-	private TimerTask searchTask;
+	private final Timer searchDelayTimer;
 
 
 	/**
@@ -38,7 +35,8 @@ public class SearchBar extends JTextField
 	{
 		super(50);
 
-		searchDelayTimer = new Timer(true);
+		searchDelayTimer = new Timer(SEARCH_DELAY, event -> SavesManager.fireSearchRequestedEvent(getText().trim()));
+		searchDelayTimer.setRepeats(false);
 
 		putClientProperty(DarkTextFieldUI.KEY_VARIANT, DarkTextFieldUI.VARIANT_SEARCH);
 		putClientProperty(DarkTextFieldUI.KEY_SHOW_CLEAR, true);
@@ -66,19 +64,13 @@ public class SearchBar extends JTextField
 		});
 	}
 	
+	/**
+	 * Requests a search once the input stopped changing for a moment. Searches run in the background and only the latest one is shown, so the
+	 * delay merely avoids searching for every single keystroke.
+	 */
 	private void rescheduleSearch()
 	{
-		if (searchTask != null)
-			searchTask.cancel();
-		searchTask = new TimerTask() {
-
-			@Override
-			public void run()
-			{
-				SavesManager.fireSearchRequestedEvent(getText().trim());
-			}
-		};
-		searchDelayTimer.schedule(searchTask, SEARCH_DELAY);
+		searchDelayTimer.restart();
 	}
 
 }
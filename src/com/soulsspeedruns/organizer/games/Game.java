@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 
 import com.soulsspeedruns.organizer.managers.GamesManager;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
 import com.soulsspeedruns.organizer.managers.SettingsManager;
 import com.soulsspeedruns.organizer.managers.VersionManager;
 
@@ -196,7 +197,7 @@ public class Game implements Comparable<Game>
 			File[] files = file.listFiles();
 			for (File dir : files)
 			{
-				if (dir.isDirectory())
+				if (dir.isDirectory() && !OrganizerManager.isOrganizerFile(dir))
 				{
 					addProfile(new Profile(dir.getName(), this));
 				}
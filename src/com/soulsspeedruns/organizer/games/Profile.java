@@ -5,7 +5,6 @@ import java.io.File;
 import java.util.Collections;
 
 import com.soulsspeedruns.organizer.managers.GamesManager;
-import com.soulsspeedruns.organizer.savelist.Folder;
 import com.soulsspeedruns.organizer.savelist.RootFolder;
 
 
@@ -21,11 +20,12 @@ public class Profile implements Comparable<Profile>
 {
 
 	private final Game game;
-	private RootFolder root;
+	private String name;
+	private volatile RootFolder root;
 
 
 	/**
-	 * Creates a new Profile object with the given name and game.
+	 * Creates a new Profile object with the given name and game. The root folder is only created once it is accessed.
 	 * 
 	 * @param name the name of the profile
 	 * @param game the game that this profile belongs to
@@ -33,8 +33,7 @@ public class Profile implements Comparable<Profile>
 	public Profile(String name, Game game)
 	{
 		this.game = game;
-		if (name != null && name.length() > 0)
-			root = new RootFolder(new File(game.getDirectory() + File.separator + name));
+		this.name = name != null ? name : "";
 	}
 
 
@@ -43,9 +42,7 @@ public class Profile implements Comparable<Profile>
 	 */
 	public String getName()
 	{
-		if (root != null)
-			return root.getName();
-		return "";
+		return name;
 	}
 
 
@@ -59,12 +56,15 @@ public class Profile implements Comparable<Profile>
 
 
 	/**
-	 * The root folder containing all folders and savestates for this profile.
+	 * The root folder containing all folders and savestates for this profile. It is created on first access, its contents are loaded as they are
+	 * accessed.
 	 * 
-	 * @return the root folder
+	 * @return the root folder, or null if this profile has no name
 	 */
-	public Folder getRoot()
+	public RootFolder getRoot()
 	{
+		if (root == null && name.length() > 0)
+			root = new RootFolder(new File(game.getDirectory() + File.separator + name));
 		return root;
 	}
 
@@ -77,7 +77,8 @@ public class Profile implements Comparable<Profile>
 	public void rename(String name)
 	{
 		boolean updateSelectedProfile = this.equals(GamesManager.getSelectedProfile());
-		root.rename(name);
+		if (getRoot().rename(name))
+			this.name = name;
 		if (updateSelectedProfile)
 			GamesManager.switchToProfile(this); // update the name of the stored selected profile
 		Collections.sort(game.getProfiles());
@@ -90,16 +91,18 @@ public class Profile implements Comparable<Profile>
 	public void delete()
 	{
 		game.removeProfile(this);
-		root.delete();
+		getRoot().delete();
 	}
-	
+
+
 	/**
-	 * Refreshes the profile to pick up any new files.
+	 * Replaces the root folder of this profile, e.g. with one that was scanned in the background.
+	 * 
+	 * @param root the new root folder
 	 */
-	public void refreshProfile()
+	public void setRoot(RootFolder root)
 	{
-		if(root != null)
-			root = new RootFolder(new File(game.getDirectory() + File.separator + root.getName()));
+		this.root = root;
 	}
 
 
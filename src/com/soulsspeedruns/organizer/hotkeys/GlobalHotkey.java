@@ -27,7 +27,7 @@ public enum GlobalHotkey
 		public void action()
 		{
 			if (SavesManager.getSelectedEntry() instanceof Save)
-				SavesManager.loadSave((Save) SavesManager.getSelectedEntry());
+				SavesManager.loadSave((Save) SavesManager.getSelectedEntry(), SettingsManager.getKeyboardHook().getKeyEventTime());
 		}
 
 
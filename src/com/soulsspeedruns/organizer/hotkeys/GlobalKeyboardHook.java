@@ -1,8 +1,6 @@
 package com.soulsspeedruns.organizer.hotkeys;
 
 
-import java.awt.Toolkit;
-import java.awt.event.KeyEvent;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +26,12 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	// if a modifier key is released, this is used to decide whether the modifier was tied to a previous key combo or not
 	private boolean keyComboWasExecuted = false;
 
+	// time the current key event was received at, used to measure how long it takes until a load is requested
+	private volatile long keyEventTime;
+
+	// the hotkeys by their keys, replaced whenever a hotkey is changed
+	private volatile HotkeyTable hotkeyTable;
+
 
 	/**
 	 * Registers a global hotkey hook.
@@ -38,6 +42,7 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	{
 		Logger logger = Logger.getLogger(GlobalScreen.class.getPackage().getName());
 		logger.setLevel(Level.OFF);
+		updateHotkeys();
 		GlobalScreen.registerNativeHook();
 		GlobalScreen.addNativeKeyListener(this);
 	}
@@ -75,6 +80,15 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	}
 
 
+	/**
+	 * Compiles the keys of the global hotkeys again. Has to be called whenever a hotkey was changed.
+	 */
+	public void updateHotkeys()
+	{
+		hotkeyTable = HotkeyTable.compile();
+	}
+
+
 	/**
 	 * Toggles global hotkeys.
 	 * 
@@ -97,6 +111,17 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	}
 
 
+	/**
+	 * Returns the time the key event that is currently being handled was received at.
+	 * 
+	 * @return the time as returned by {@link System#nanoTime()}
+	 */
+	public long getKeyEventTime()
+	{
+		return keyEventTime;
+	}
+
+
 	@Override
 	public void nativeKeyTyped(NativeKeyEvent e)
 	{
@@ -106,6 +131,7 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	@Override
 	public void nativeKeyPressed(NativeKeyEvent e)
 	{
+		keyEventTime = System.nanoTime();
 		keyComboWasExecuted = false;
 		int keyCode = e.getKeyCode();
 		if (keyCode == NativeKeyEvent.VC_SHIFT_L || keyCode == NativeKeyEvent.VC_SHIFT_R || keyCode == NativeKeyEvent.VC_CONTROL_L
@@ -118,6 +144,7 @@ public class GlobalKeyboardHook implements NativeKeyListener
 	@Override
 	public void nativeKeyReleased(NativeKeyEvent e)
 	{
+		keyEventTime = System.nanoTime();
 		int keyCode = e.getKeyCode();
 		if (keyCode == NativeKeyEvent.VC_SHIFT_L || keyCode == NativeKeyEvent.VC_SHIFT_R || keyCode == NativeKeyEvent.VC_CONTROL_L
 				|| keyCode == NativeKeyEvent.VC_CONTROL_R || keyCode == NativeKeyEvent.VC_ALT_L || keyCode == NativeKeyEvent.VC_ALT_R)
@@ -130,70 +157,21 @@ public class GlobalKeyboardHook implements NativeKeyListener
 
 
 	/**
-	 * Executes the action of the hotkey with the same key code as the given KeyEvent.
+	 * Executes the action of the hotkey bound to the keys of the given KeyEvent.
 	 * 
 	 * @param e the KeyEvent
 	 */
 	private void executeKeyEvent(NativeKeyEvent e)
 	{
-		String keyText = getKeyText(e);
-		for (GlobalHotkey hotkey : GlobalHotkey.values())
-		{
-			if (!hotkeysEnabled && hotkey != GlobalHotkey.GLOBAL_HOTKEY_TOGGLE)
-				continue;
-			if (keyText.equals(hotkey.getKeyCode()))
-			{
-				hotkey.action();
-				keyComboWasExecuted = true;
-				break;
-			}
-		}
-	}
-
-
-	/**
-	 * Gets the key combination text from the KeyEvent.
-	 * 
-	 * @param e the KeyEvent
-	 * @return the combined text of all pressed keys
-	 */
-	private String getKeyText(NativeKeyEvent e)
-	{
-		String modifiers = NativeKeyEvent.getModifiersText(e.getModifiers());
-		if (modifiers.length() > 0)
-		{
-			modifiers = modifiers.replaceAll("\\+", " \\+ ");
-			// replace "Shift + Ctrl/Alt" with "Ctrl/Alt + Shift" for compatibility between global hotkeys and base Java hotkeys
-			modifiers = modifiers.replaceAll(Toolkit.getProperty("AWT.shift", "Shift") + " \\+ " + Toolkit.getProperty("AWT.control", "Ctrl"),
-					Toolkit.getProperty("AWT.control", "Ctrl") + " \\+ " + Toolkit.getProperty("AWT.shift", "Shift"));
-			modifiers = modifiers.replaceAll(Toolkit.getProperty("AWT.shift", "Shift") + " \\+ " + Toolkit.getProperty("AWT.alt", "Alt"),
-					Toolkit.getProperty("AWT.alt", "alt") + " \\+ " + Toolkit.getProperty("AWT.shift", "Shift"));
-			modifiers += " + ";
-		}
-
-		String keyText = "";
-
-		// NativeKeyEvent has different keytexts than Java for modifiers, so need to standardize them
-		switch (e.getKeyCode())
-		{
-			case NativeKeyEvent.VC_CONTROL_L:
-			case NativeKeyEvent.VC_CONTROL_R:
-				keyText = KeyEvent.getKeyText(KeyEvent.VK_CONTROL);
-				break;
-			case NativeKeyEvent.VC_SHIFT_L:
-			case NativeKeyEvent.VC_SHIFT_R:
-				keyText = KeyEvent.getKeyText(KeyEvent.VK_SHIFT);
-				break;
-			case NativeKeyEvent.VC_ALT_L:
-			case NativeKeyEvent.VC_ALT_R:
-				keyText = KeyEvent.getKeyText(KeyEvent.VK_ALT);
-				break;
-			default:
-				keyText = NativeKeyEvent.getKeyText(e.getKeyCode());
-				break;
-		}
-
-		return modifiers + keyText;
+		GlobalHotkey hotkey;
+		if (hotkeysEnabled)
+			hotkey = hotkeyTable.get(e.getModifiers(), e.getKeyCode());
+		else
+			hotkey = hotkeyTable.isToggle(e.getModifiers(), e.getKeyCode()) ? GlobalHotkey.GLOBAL_HOTKEY_TOGGLE : null;
+		if (hotkey == null)
+			return;
+		hotkey.action();
+		keyComboWasExecuted = true;
 	}
 
 }
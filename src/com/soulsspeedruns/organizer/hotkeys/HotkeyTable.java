@@ -0,0 +1,273 @@
+package com.soulsspeedruns.organizer.hotkeys;
+
+
+import java.awt.Toolkit;
+import java.awt.event.KeyEvent;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jnativehook.NativeInputEvent;
+import org.jnativehook.keyboard.NativeKeyEvent;
+
+
+/**
+ * HotkeyTable.
+ * <p>
+ * The global hotkeys compiled from their stored key texts into a hash table keyed by the pressed modifiers and the native key code, so the
+ * keyboard hook can find the hotkey of a key event without building any text or reading the preferences. The keys of the hotkey toggle are kept
+ * separately as well, since it has to work while the other hotkeys are disabled even if it shares its keys with one of them. A table never
+ * changes after it was compiled, a new one is compiled whenever a hotkey is changed.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+final class HotkeyTable
+{
+
+	private static final int SHIFT = 1;
+	private static final int CTRL = 2;
+	private static final int ALT = 4;
+	private static final int META = 8;
+	// held mouse buttons, which can't be part of a hotkey
+	private static final int OTHER = 16;
+
+	private static final int BUTTON_MASK = NativeInputEvent.BUTTON1_MASK | NativeInputEvent.BUTTON2_MASK | NativeInputEvent.BUTTON3_MASK
+			| NativeInputEvent.BUTTON4_MASK | NativeInputEvent.BUTTON5_MASK;
+
+	private static final int EMPTY = -1;
+
+	private static Map<String, List<Integer>> nativeKeyCodes;
+
+	private final int[] keys;
+	private final GlobalHotkey[] hotkeys;
+	private final int mask;
+	private int[] toggleKeys = new int[0];
+
+
+	private HotkeyTable(int capacity)
+	{
+		keys = new int[capacity];
+		hotkeys = new GlobalHotkey[capacity];
+		mask = capacity - 1;
+		for (int i = 0; i < capacity; i++)
+			keys[i] = EMPTY;
+	}
+
+
+	/**
+	 * Compiles the current key texts of all global hotkeys. If several hotkeys share the same keys, the first one wins, apart from the hotkey
+	 * toggle while the other hotkeys are disabled.
+	 *
+	 * @return the table
+	 */
+	static HotkeyTable compile()
+	{
+		List<Integer> compiledKeys = new ArrayList<>();
+		List<GlobalHotkey> compiledHotkeys = new ArrayList<>();
+		// ordered by the bits of the modifiers
+		String[] modifierTexts = { getModifierText(SHIFT), getModifierText(CTRL), getModifierText(ALT), getModifierText(META) };
+		for (GlobalHotkey hotkey : GlobalHotkey.values())
+		{
+			String keyText = hotkey.getKeyCode();
+			int modifiers = 0;
+			boolean foundModifier = true;
+			while (foundModifier)
+			{
+				foundModifier = false;
+				for (int i = 0; i < modifierTexts.length; i++)
+				{
+					String prefix = modifierTexts[i] + " + ";
+					if (keyText.startsWith(prefix) && keyText.length() > prefix.length())
+					{
+						modifiers |= 1 << i;
+						keyText = keyText.substring(prefix.length());
+						foundModifier = true;
+					}
+				}
+			}
+			List<Integer> keyCodes = getNativeKeyCodes().get(keyText);
+			if (keyCodes == null)
+				continue;
+			for (int keyCode : keyCodes)
+			{
+				compiledKeys.add(getKey(modifiers, keyCode));
+				compiledHotkeys.add(hotkey);
+			}
+		}
+
+		int capacity = 8;
+		while (capacity < compiledKeys.size() * 2)
+			capacity <<= 1;
+		HotkeyTable table = new HotkeyTable(capacity);
+		List<Integer> toggleKeys = new ArrayList<>();
+		for (int i = 0; i < compiledKeys.size(); i++)
+		{
+			table.put(compiledKeys.get(i), compiledHotkeys.get(i));
+			if (compiledHotkeys.get(i) == GlobalHotkey.GLOBAL_HOTKEY_TOGGLE)
+				toggleKeys.add(compiledKeys.get(i));
+		}
+		table.toggleKeys = new int[toggleKeys.size()];
+		for (int i = 0; i < toggleKeys.size(); i++)
+			table.toggleKeys[i] = toggleKeys.get(i);
+		return table;
+	}
+
+
+	/**
+	 * Returns the hotkey for the given key event values.
+	 *
+	 * @param nativeModifiers the modifiers of the event
+	 * @param keyCode         the native key code of the event
+	 * @return the hotkey, or null if none is bound to these keys
+	 */
+	GlobalHotkey get(int nativeModifiers, int keyCode)
+	{
+		int key = getKey(toModifiers(nativeModifiers), keyCode);
+		for (int i = hash(key) & mask;; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+				return hotkeys[i];
+			if (keys[i] == EMPTY)
+				return null;
+		}
+	}
+
+
+	/**
+	 * Returns whether the given key event values are bound to the hotkey toggle, regardless of whether another hotkey shares the keys.
+	 *
+	 * @param nativeModifiers the modifiers of the event
+	 * @param keyCode         the native key code of the event
+	 * @return whether the keys toggle the hotkeys
+	 */
+	boolean isToggle(int nativeModifiers, int keyCode)
+	{
+		int key = getKey(toModifiers(nativeModifiers), keyCode);
+		for (int toggleKey : toggleKeys)
+		{
+			if (toggleKey == key)
+				return true;
+		}
+		return false;
+	}
+
+
+	private void put(int key, GlobalHotkey hotkey)
+	{
+		int i = hash(key) & mask;
+		while (keys[i] != EMPTY)
+		{
+			if (keys[i] == key)
+				return;
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		hotkeys[i] = hotkey;
+	}
+
+
+	private static int getKey(int modifiers, int keyCode)
+	{
+		return modifiers << 16 | keyCode & 0xFFFF;
+	}
+
+
+	private static int hash(int key)
+	{
+		int hash = key * 0x9E3779B9;
+		return hash ^ hash >>> 16;
+	}
+
+
+	/**
+	 * Converts the modifiers of a native key event, which distinguish between the left and right keys, to the modifiers of the table.
+	 */
+	private static int toModifiers(int nativeModifiers)
+	{
+		int modifiers = 0;
+		if ((nativeModifiers & NativeInputEvent.SHIFT_MASK) != 0)
+			modifiers |= SHIFT;
+		if ((nativeModifiers & NativeInputEvent.CTRL_MASK) != 0)
+			modifiers |= CTRL;
+		if ((nativeModifiers & NativeInputEvent.ALT_MASK) != 0)
+			modifiers |= ALT;
+		if ((nativeModifiers & NativeInputEvent.META_MASK) != 0)
+			modifiers |= META;
+		if ((nativeModifiers & BUTTON_MASK) != 0)
+			modifiers |= OTHER;
+		return modifiers;
+	}
+
+
+	/**
+	 * Returns the text of the given modifier as it appears in the stored key texts.
+	 */
+	private static String getModifierText(int modifier)
+	{
+		switch (modifier)
+		{
+			case SHIFT:
+				return Toolkit.getProperty("AWT.shift", "Shift");
+			case CTRL:
+				return Toolkit.getProperty("AWT.control", "Ctrl");
+			case ALT:
+				return Toolkit.getProperty("AWT.alt", "Alt");
+			default:
+				return Toolkit.getProperty("AWT.meta", "Meta");
+		}
+	}
+
+
+	/**
+	 * Returns the native key codes by their key texts. The texts of the modifier keys are the ones Java uses, since the stored key texts come from
+	 * Java key events.
+	 */
+	private static synchronized Map<String, List<Integer>> getNativeKeyCodes()
+	{
+		if (nativeKeyCodes != null)
+			return nativeKeyCodes;
+		nativeKeyCodes = new HashMap<>();
+		for (Field field : NativeKeyEvent.class.getFields())
+		{
+			if (!field.getName().startsWith("VC_") || field.getType() != int.class || !Modifier.isStatic(field.getModifiers()))
+				continue;
+			try
+			{
+				int keyCode = field.getInt(null);
+				nativeKeyCodes.computeIfAbsent(getKeyText(keyCode), key -> new ArrayList<>()).add(keyCode);
+			}
+			catch (IllegalAccessException e)
+			{
+				// public constants are always accessible
+			}
+		}
+		return nativeKeyCodes;
+	}
+
+
+	/**
+	 * Returns the text of the given native key code, with the texts of the modifier keys standardized to the ones Java uses.
+	 */
+	private static String getKeyText(int keyCode)
+	{
+		switch (keyCode)
+		{
+			case NativeKeyEvent.VC_CONTROL_L:
+			case NativeKeyEvent.VC_CONTROL_R:
+				return KeyEvent.getKeyText(KeyEvent.VK_CONTROL);
+			case NativeKeyEvent.VC_SHIFT_L:
+			case NativeKeyEvent.VC_SHIFT_R:
+				return KeyEvent.getKeyText(KeyEvent.VK_SHIFT);
+			case NativeKeyEvent.VC_ALT_L:
+			case NativeKeyEvent.VC_ALT_R:
+				return KeyEvent.getKeyText(KeyEvent.VK_ALT);
+			default:
+				return NativeKeyEvent.getKeyText(keyCode);
+		}
+	}
+
+}
@@ -0,0 +1,229 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * CachedSave.
+ * <p>
+ * Holds the contents of a savefile in memory, together with the size and modification time the file had when it was read.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class CachedSave
+{
+
+	/**
+	 * Size of the blocks the contents are split into when comparing them block by block.
+	 */
+	public static final int BLOCK_SIZE = 64 * 1024;
+
+	private final File file;
+	private final long size;
+	private final long lastModified;
+	private final byte[] data;
+
+	private volatile boolean prefetched;
+	private volatile boolean hashComputed;
+	private long hash;
+	private volatile long[] blockHashes;
+
+
+	/**
+	 * Creates a new CachedSave.
+	 *
+	 * @param file         the file the contents were read from
+	 * @param size         the size of the file at the time it was read
+	 * @param lastModified the modification time of the file at the time it was read
+	 * @param data         the contents of the file
+	 */
+	public CachedSave(File file, long size, long lastModified, byte[] data)
+	{
+		this.file = file;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.data = data;
+	}
+
+
+	/**
+	 * Returns the file the contents were read from.
+	 *
+	 * @return the file
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+
+
+	/**
+	 * Returns the size the file had when it was read.
+	 *
+	 * @return the size in bytes
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+
+	/**
+	 * Returns the modification time the file had when it was read.
+	 *
+	 * @return the modification time in milliseconds since the epoch
+	 */
+	public long getLastModified()
+	{
+		return lastModified;
+	}
+
+
+	/**
+	 * Returns the contents of the file.
+	 *
+	 * @return the contents
+	 */
+	public byte[] getData()
+	{
+		return data;
+	}
+
+
+	/**
+	 * Returns the content hash of the file. It is computed on first access and kept afterwards.
+	 *
+	 * @return the content hash
+	 */
+	public long getHash()
+	{
+		if (!hashComputed)
+		{
+			hash = Crc64.compute(data);
+			hashComputed = true;
+		}
+		return hash;
+	}
+
+
+	/**
+	 * Returns the content hashes of the blocks of {@link #BLOCK_SIZE} bytes the contents are made of. The last block may be shorter. They are
+	 * computed on first access and kept afterwards.
+	 *
+	 * @return the block hashes
+	 */
+	public long[] getBlockHashes()
+	{
+		long[] hashes = blockHashes;
+		if (hashes == null)
+		{
+			hashes = new long[getBlockCount()];
+			for (int i = 0; i < hashes.length; i++)
+				hashes[i] = Crc64.compute(data, i * BLOCK_SIZE, getBlockLength(i));
+			blockHashes = hashes;
+		}
+		return hashes;
+	}
+
+
+	/**
+	 * Returns the number of blocks the contents are made of.
+	 *
+	 * @return the number of blocks
+	 */
+	public int getBlockCount()
+	{
+		return (data.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+	}
+
+
+	/**
+	 * Returns the length of the given block, which is {@link #BLOCK_SIZE} for all but the last block.
+	 *
+	 * @param block the index of the block
+	 * @return the length of the block in bytes
+	 */
+	public int getBlockLength(int block)
+	{
+		return Math.min(BLOCK_SIZE, data.length - block * BLOCK_SIZE);
+	}
+
+
+	/**
+	 * Returns whether the given contents are identical to these contents, either because both were read from the same unchanged file or because
+	 * their content hashes match.
+	 *
+	 * @param other the contents to compare to
+	 * @return whether the contents are identical
+	 */
+	public boolean hasSameContentAs(CachedSave other)
+	{
+		if (this == other)
+			return true;
+		if (data.length != other.data.length)
+			return false;
+		if (file.equals(other.file) && lastModified == other.lastModified)
+			return true;
+		return getHash() == other.getHash();
+	}
+
+
+	/**
+	 * Returns whether the contents were read ahead of time by the prefetcher and have not been loaded since.
+	 *
+	 * @return whether the contents were prefetched
+	 */
+	public boolean isPrefetched()
+	{
+		return prefetched;
+	}
+
+
+	/**
+	 * Marks the contents as read ahead of time by the prefetcher.
+	 *
+	 * @param prefetched whether the contents were prefetched
+	 */
+	public void setPrefetched(boolean prefetched)
+	{
+		this.prefetched = prefetched;
+	}
+
+
+	/**
+	 * Returns whether the cached contents still belong to a file with the given size and modification time.
+	 *
+	 * @param size         the current size of the file
+	 * @param lastModified the current modification time of the file
+	 * @return whether the contents are still up to date
+	 */
+	public boolean isValidFor(long size, long lastModified)
+	{
+		return this.size == size && this.lastModified == lastModified;
+	}
+
+
+	/**
+	 * Writes the contents to the given file, replacing whatever it contained before.
+	 *
+	 * @param target the file to write to
+	 * @throws IOException
+	 */
+	public void writeTo(File target) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+
+}
@@ -0,0 +1,205 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.io.CaptureHistory.Capture;
+import com.soulsspeedruns.organizer.listeners.CaptureListener;
+import com.soulsspeedruns.organizer.listeners.GameFileListener;
+import com.soulsspeedruns.organizer.managers.GamesManager;
+
+
+/**
+ * CaptureEngine.
+ * <p>
+ * Captures every state the game writes to the gamefile of the selected game into the history of the selected profile, so a state can still be
+ * turned into a savestate after the moment has passed. Relies on the {@link GameFileMonitor} to notice the writes, which only publishes the hash
+ * of the gamefile once the game finished writing it. The gamefile is only read, never locked, so the game's own writes are never held up. States
+ * that are identical to the last one seen, including the ones written by loading a savestate, are not captured.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class CaptureEngine implements GameFileListener
+{
+
+	private final Map<File, CaptureHistory> histories = new HashMap<>();
+	private final List<CaptureListener> listeners = new CopyOnWriteArrayList<>();
+	private final ExecutorService executor;
+
+	private boolean enabled;
+	private int maxCaptures;
+	private long maxBytes;
+
+	private volatile boolean hasLastSeenHash;
+	private volatile long lastSeenHash;
+
+
+	/**
+	 * Creates a new CaptureEngine. It doesn't capture anything until it is enabled.
+	 *
+	 * @param maxCaptures the maximum number of captures to keep per profile
+	 * @param maxBytes    the maximum number of bytes to keep per profile
+	 */
+	public CaptureEngine(int maxCaptures, long maxBytes)
+	{
+		this.maxCaptures = maxCaptures;
+		this.maxBytes = maxBytes;
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Capture Engine");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+
+	/**
+	 * Starts or stops capturing the gamefile of the selected game.
+	 *
+	 * @param enabled true to start capturing, false to stop
+	 */
+	public synchronized void setEnabled(boolean enabled)
+	{
+		if (enabled && !this.enabled)
+			hasLastSeenHash = false;
+		this.enabled = enabled;
+	}
+
+
+	/**
+	 * Returns whether the gamefile is being captured.
+	 *
+	 * @return whether capturing is enabled
+	 */
+	public synchronized boolean isEnabled()
+	{
+		return enabled;
+	}
+
+
+	/**
+	 * Sets how many captures and bytes the history of each profile may hold.
+	 *
+	 * @param maxCaptures the maximum number of captures
+	 * @param maxBytes    the maximum number of bytes
+	 */
+	public synchronized void setLimits(int maxCaptures, long maxBytes)
+	{
+		this.maxCaptures = maxCaptures;
+		this.maxBytes = maxBytes;
+		for (CaptureHistory history : histories.values())
+			history.setLimits(maxCaptures, maxBytes);
+	}
+
+
+	/**
+	 * Returns the capture history of the given profile. The cached history of a profile whose directory is gone is dropped, so a profile that is
+	 * created again under the same name starts with the captures found on disk.
+	 *
+	 * @param profile the profile
+	 * @return the history
+	 */
+	public synchronized CaptureHistory getHistory(Profile profile)
+	{
+		File directory = profile.getRoot().getFile();
+		if (!directory.isDirectory())
+			histories.remove(directory);
+		return histories.computeIfAbsent(directory, key -> new CaptureHistory(key, maxCaptures, maxBytes));
+	}
+
+
+	/**
+	 * Tells the engine that the organizer wrote the given contents to the gamefile, so the write isn't captured as a new state.
+	 *
+	 * @param content the contents that were written
+	 */
+	public void gameFileWritten(CachedSave content)
+	{
+		lastSeenHash = content.getHash();
+		hasLastSeenHash = true;
+	}
+
+
+	/**
+	 * Adds a listener that is notified of new captures.
+	 *
+	 * @param listener the listener to add
+	 */
+	public void addCaptureListener(CaptureListener listener)
+	{
+		listeners.add(listener);
+	}
+
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener the listener to remove
+	 */
+	public void removeCaptureListener(CaptureListener listener)
+	{
+		listeners.remove(listener);
+	}
+
+
+	@Override
+	public void gameFileChanged(GameFileState state)
+	{
+		Profile profile = GamesManager.getSelectedProfile();
+		if (!isEnabled() || !state.isHashKnown() || profile == null || profile.getRoot() == null
+				|| !state.getFile().equals(profile.getGame().getSaveFileLocation()))
+			return;
+		if (hasLastSeenHash && lastSeenHash == state.getHash())
+			return;
+		lastSeenHash = state.getHash();
+		hasLastSeenHash = true;
+		executor.execute(() -> capture(profile, state));
+	}
+
+
+	/**
+	 * Reads the gamefile and adds it to the history of the given profile. Called on the capture thread.
+	 *
+	 * @param profile the profile to capture the gamefile for
+	 * @param state   the state of the gamefile that was published by the monitor
+	 */
+	private void capture(Profile profile, GameFileState state)
+	{
+		// the profile was deleted meanwhile, writing the capture would create its directory again
+		if (!profile.getRoot().getFile().isDirectory())
+			return;
+		try
+		{
+			byte[] data = Files.readAllBytes(state.getFile().toPath());
+			// the game wrote again since, the monitor publishes that state as well once it's done
+			if (data.length != state.getSize() || Crc64.compute(data) != state.getHash())
+				return;
+			Capture capture = getHistory(profile).add(data, state.getHash(), state.getLastModified());
+			if (capture != null)
+				SwingUtilities.invokeLater(() -> fireGameFileCapturedEvent(profile, capture));
+		}
+		catch (IOException e)
+		{
+			// the gamefile is gone or held exclusively by the game for the moment, the next write is captured instead
+		}
+	}
+
+
+	private void fireGameFileCapturedEvent(Profile profile, Capture capture)
+	{
+		for (CaptureListener listener : listeners)
+			listener.gameFileCaptured(profile, capture);
+	}
+
+}
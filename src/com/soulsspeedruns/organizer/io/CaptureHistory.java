@@ -0,0 +1,234 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * CaptureHistory.
+ * <p>
+ * Bounded history of the states of the gamefile that were captured while playing on a profile, kept in a directory inside the profile directory.
+ * Once the history holds more captures or more bytes than allowed, the oldest captures are deleted. A capture that is identical to the newest one
+ * is not added again.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class CaptureHistory
+{
+
+	/**
+	 * Name of the history directory in the profile directory.
+	 */
+	public static final String DIRECTORY_NAME = ".sso-history";
+
+	private final File directory;
+	// oldest first
+	private final Deque<Capture> captures = new ArrayDeque<>();
+
+	private int maxCaptures;
+	private long maxBytes;
+	private long size;
+
+
+	/**
+	 * Creates a new CaptureHistory for the given profile directory and reads the captures stored there, if any.
+	 *
+	 * @param profileDirectory the profile directory
+	 * @param maxCaptures      the maximum number of captures to keep
+	 * @param maxBytes         the maximum number of bytes to keep
+	 */
+	public CaptureHistory(File profileDirectory, int maxCaptures, long maxBytes)
+	{
+		directory = new File(profileDirectory, DIRECTORY_NAME);
+		this.maxCaptures = maxCaptures;
+		this.maxBytes = maxBytes;
+		read();
+	}
+
+
+	/**
+	 * Adds the given state of the gamefile as the newest capture, unless it is identical to the newest capture already, and evicts the oldest
+	 * captures if the history gets too large.
+	 *
+	 * @param data the contents of the gamefile
+	 * @param hash the hash of the contents, as computed by {@link Crc64}
+	 * @param time the time the gamefile was written at
+	 * @return the new capture, or null if the contents were already captured last
+	 * @throws IOException if the capture could not be written
+	 */
+	public synchronized Capture add(byte[] data, long hash, long time) throws IOException
+	{
+		Capture newest = captures.peekLast();
+		if (newest != null && newest.hash == hash && newest.size == data.length)
+			return null;
+		directory.mkdirs();
+		Capture capture = new Capture(new File(directory, time + "-" + Long.toHexString(hash)), time, hash, data.length);
+		File tempFile = new File(capture.file.getPath() + ".tmp");
+		Files.write(tempFile.toPath(), data);
+		Files.move(tempFile.toPath(), capture.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		// promoting the capture copies the modification time, so the save is dated like the gamefile it was captured from
+		capture.file.setLastModified(time);
+		captures.addLast(capture);
+		size += capture.size;
+		trim();
+		return capture;
+	}
+
+
+	/**
+	 * Returns the captures, newest first.
+	 *
+	 * @return a copy of the list of captures
+	 */
+	public synchronized List<Capture> getCaptures()
+	{
+		List<Capture> list = new ArrayList<>(captures);
+		Collections.reverse(list);
+		return list;
+	}
+
+
+	/**
+	 * Sets how many captures and bytes the history may hold, evicting the oldest captures if necessary.
+	 *
+	 * @param maxCaptures the maximum number of captures
+	 * @param maxBytes    the maximum number of bytes
+	 */
+	public synchronized void setLimits(int maxCaptures, long maxBytes)
+	{
+		this.maxCaptures = maxCaptures;
+		this.maxBytes = maxBytes;
+		trim();
+	}
+
+
+	/**
+	 * Deletes the oldest captures until the history fits within its limits. The newest capture is always kept.
+	 */
+	private void trim()
+	{
+		Iterator<Capture> iterator = captures.iterator();
+		while (captures.size() > 1 && (captures.size() > maxCaptures || size > maxBytes) && iterator.hasNext())
+		{
+			Capture oldest = iterator.next();
+			iterator.remove();
+			size -= oldest.size;
+			oldest.file.delete();
+		}
+	}
+
+
+	/**
+	 * Reads the captures stored in the history directory. Files that don't follow the naming scheme, e.g. temporary files left behind by a crash,
+	 * are deleted.
+	 */
+	private void read()
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+			return;
+		List<Capture> stored = new ArrayList<>();
+		for (File file : files)
+		{
+			Capture capture = Capture.parse(file);
+			if (capture != null)
+				stored.add(capture);
+			else
+				file.delete();
+		}
+		stored.sort(Comparator.comparingLong(Capture::getTime));
+		for (Capture capture : stored)
+		{
+			captures.addLast(capture);
+			size += capture.size;
+		}
+		trim();
+	}
+
+
+	/**
+	 * A captured state of the gamefile.
+	 */
+	public static class Capture
+	{
+
+		private final File file;
+		private final long time;
+		private final long hash;
+		private final long size;
+
+
+		private Capture(File file, long time, long hash, long size)
+		{
+			this.file = file;
+			this.time = time;
+			this.hash = hash;
+			this.size = size;
+		}
+
+
+		private static Capture parse(File file)
+		{
+			String[] parts = file.getName().split("-");
+			if (parts.length != 2 || !file.isFile())
+				return null;
+			try
+			{
+				return new Capture(file, Long.parseLong(parts[0]), Long.parseUnsignedLong(parts[1], 16), file.length());
+			}
+			catch (NumberFormatException e)
+			{
+				return null;
+			}
+		}
+
+
+		/**
+		 * @return the file the capture is stored in
+		 */
+		public File getFile()
+		{
+			return file;
+		}
+
+
+		/**
+		 * @return the time the gamefile was written at, in milliseconds since the epoch
+		 */
+		public long getTime()
+		{
+			return time;
+		}
+
+
+		/**
+		 * @return the hash of the contents
+		 */
+		public long getHash()
+		{
+			return hash;
+		}
+
+
+		/**
+		 * @return the size of the contents in bytes
+		 */
+		public long getSize()
+		{
+			return size;
+		}
+
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.soulsspeedruns.organizer.io;
+
+
+/**
+ * Crc64.
+ * <p>
+ * Table driven CRC-64 (ECMA-182 polynomial, as used by XZ). Used as a fast content hash to recognize identical savefiles. Not suitable for
+ * anything where collisions could be provoked deliberately.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class Crc64
+{
+
+	private static final long POLYNOMIAL = 0xC96C5795D7870F42L;
+
+	private static final long[] TABLE = new long[256];
+
+	static
+	{
+		for (int i = 0; i < TABLE.length; i++)
+		{
+			long crc = i;
+			for (int bit = 0; bit < 8; bit++)
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+			TABLE[i] = crc;
+		}
+	}
+
+
+	private Crc64()
+	{
+	}
+
+
+	/**
+	 * Computes the checksum of the given bytes.
+	 *
+	 * @param data the bytes to compute the checksum of
+	 * @return the checksum
+	 */
+	public static long compute(byte[] data)
+	{
+		return compute(data, 0, data.length);
+	}
+
+
+	/**
+	 * Computes the checksum of the given range of bytes.
+	 *
+	 * @param data   the bytes to compute the checksum of
+	 * @param offset the start of the range
+	 * @param length the length of the range
+	 * @return the checksum
+	 */
+	public static long compute(byte[] data, int offset, int length)
+	{
+		long crc = -1L;
+		int end = offset + length;
+		for (int i = offset; i < end; i++)
+			crc = TABLE[(int) (crc ^ data[i]) & 0xFF] ^ (crc >>> 8);
+		return ~crc;
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributes;
+
+
+/**
+ * FileAttributes.
+ * <p>
+ * Reads the attributes of files in one go, including whether they are writable, so callers don't have to touch the file system once per value.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class FileAttributes
+{
+
+	// other platforms may emulate DOS attributes, but their read-only flag has nothing to do with the permissions there
+	private static final boolean USE_DOS_ATTRIBUTES = System.getProperty("os.name", "").startsWith("Windows");
+
+
+	private FileAttributes()
+	{
+	}
+
+
+	/**
+	 * Reads the attributes of the given path. Reads the DOS attributes on Windows, since they include the read-only flag.
+	 *
+	 * @param path the path
+	 * @return the attributes
+	 * @throws IOException if the attributes could not be read
+	 */
+	public static BasicFileAttributes read(Path path) throws IOException
+	{
+		if (USE_DOS_ATTRIBUTES)
+			return Files.readAttributes(path, DosFileAttributes.class);
+		return Files.readAttributes(path, BasicFileAttributes.class);
+	}
+
+
+	/**
+	 * Returns whether the given file is writable, using the read-only flag of the given attributes where they have one.
+	 *
+	 * @param file       the file
+	 * @param attributes its attributes, as returned by {@link #read(Path)}
+	 * @return whether the file is writable
+	 */
+	public static boolean isWritable(File file, BasicFileAttributes attributes)
+	{
+		return attributes instanceof DosFileAttributes ? !((DosFileAttributes) attributes).isReadOnly() : file.canWrite();
+	}
+
+}
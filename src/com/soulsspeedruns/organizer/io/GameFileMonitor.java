@@ -0,0 +1,376 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+import com.soulsspeedruns.organizer.games.Game;
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.listeners.ProfileListener;
+import com.soulsspeedruns.organizer.managers.GamesManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+
+
+/**
+ * GameFileMonitor.
+ * <p>
+ * Tracks the gamefile of the selected game and publishes a {@link GameFileState} whenever its existence, writable state, size, modification time
+ * or contents change, so that the rest of the organizer can read the cached state instead of touching the gamefile itself. Changes are noticed
+ * through a watcher on the directory of the gamefile, with a cheap periodic check of the attributes as a fallback for changes the watcher misses,
+ * e.g. a toggled read-only flag on some platforms.
+ * <p>
+ * The contents are hashed once the gamefile was quiet for a moment, since games often write their savefile in several steps. Loads tell the
+ * monitor what they wrote, so the gamefile doesn't have to be read again for the hash. The gamefile is only read, never locked, so the game's own
+ * writes are never held up.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class GameFileMonitor implements ProfileListener
+{
+
+	/**
+	 * Interval in milliseconds in which the attributes of the gamefile are checked regardless of the watcher.
+	 */
+	private static final long POLL_INTERVAL = 2000;
+
+	/**
+	 * Time in milliseconds without any further writes after which the contents of the gamefile are hashed.
+	 */
+	private static final long QUIET_PERIOD = 1000;
+
+	/**
+	 * Maximum time in milliseconds that hashing is delayed for while the gamefile keeps being written.
+	 */
+	private static final long MAX_DELAY = 10000;
+
+	private static final WatchEvent.Kind<?>[] EVENT_KINDS = { StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+			StandardWatchEventKinds.ENTRY_DELETE };
+
+	private final ScheduledExecutorService executor;
+	private final AtomicBoolean checkPending = new AtomicBoolean();
+
+	private Session session;
+	private volatile File gameFile;
+	private volatile GameFileState state = GameFileState.missing(null);
+
+	// only used on the monitor thread
+	private long unsettledSince = -1;
+
+
+	/**
+	 * Creates a new GameFileMonitor. It doesn't track anything until it is started.
+	 */
+	public GameFileMonitor()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Game File Monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+
+	/**
+	 * Starts tracking the gamefile of the selected game, and of every game selected afterwards.
+	 */
+	public void start()
+	{
+		GamesManager.addProfileListener(this);
+		watch(GamesManager.getSelectedGame());
+		executor.scheduleWithFixedDelay(this::check, POLL_INTERVAL, POLL_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+
+	/**
+	 * Returns the last published state of the gamefile.
+	 *
+	 * @return the state
+	 */
+	public GameFileState getState()
+	{
+		return state;
+	}
+
+
+	/**
+	 * Reads the attributes of the gamefile right away and publishes them if they changed, e.g. after the organizer changed the gamefile itself. The
+	 * contents are hashed later on the monitor thread if they changed.
+	 *
+	 * @return the new state
+	 */
+	public GameFileState refresh()
+	{
+		GameFileState next;
+		synchronized (this)
+		{
+			next = GameFileState.read(gameFile, state);
+			publish(next);
+		}
+		if (next.exists() && !next.isHashKnown())
+			requestCheck(0);
+		return next;
+	}
+
+
+	/**
+	 * Tells the monitor that a load wrote the given contents to the gamefile, so the contents don't have to be read again to be hashed. Called
+	 * right after the write, so the attributes read here belong to the written contents.
+	 *
+	 * @param content the contents that were written
+	 */
+	public void gameFileWritten(CachedSave content)
+	{
+		File file = gameFile;
+		GameFileState written = GameFileState.read(file, null);
+		if (!written.exists() || written.getSize() != content.getData().length)
+		{
+			requestCheck(0);
+			return;
+		}
+		// hashing the contents may take a moment, which the load shouldn't have to wait for
+		executor.execute(() -> {
+			GameFileState current = GameFileState.read(file, null);
+			synchronized (this)
+			{
+				if (!file.equals(gameFile) || !current.hasSameContentsAs(written))
+				{
+					requestCheck(0);
+					return;
+				}
+				unsettledSince = -1;
+				publish(current.withHash(content.getHash()));
+			}
+		});
+	}
+
+
+	/**
+	 * Tracks the gamefile of the given game. Stops watching the previous gamefile, if any, and publishes the state of the new one right away.
+	 *
+	 * @param game the game to track, or null to stop tracking
+	 */
+	private void watch(Game game)
+	{
+		synchronized (this)
+		{
+			File file = game != null ? game.getSaveFileLocation() : null;
+			if (session != null)
+			{
+				if (session.gameFile.toFile().equals(file))
+					return;
+				session.close();
+				session = null;
+			}
+			gameFile = file;
+			if (file != null && file.getParentFile() != null && file.getParentFile().isDirectory())
+			{
+				try
+				{
+					session = new Session(file.toPath());
+					Thread thread = new Thread(session, "Game File Watcher");
+					thread.setDaemon(true);
+					thread.start();
+				}
+				catch (IOException e)
+				{
+					// the periodic check still notices every change, only later
+					session = null;
+				}
+			}
+		}
+		refresh();
+	}
+
+
+	/**
+	 * Checks the gamefile on the monitor thread, unless a check is pending already.
+	 *
+	 * @param delay the delay in milliseconds
+	 */
+	private void requestCheck(long delay)
+	{
+		if (checkPending.compareAndSet(false, true))
+			executor.schedule(this::check, delay, TimeUnit.MILLISECONDS);
+	}
+
+
+	/**
+	 * Reads the attributes of the gamefile and hashes the contents if they changed and the gamefile was quiet for long enough, then publishes the
+	 * new state if anything changed. Called on the monitor thread.
+	 */
+	private void check()
+	{
+		checkPending.set(false);
+		File file = gameFile;
+		GameFileState next = GameFileState.read(file, state);
+		if (next.exists() && !next.isHashKnown())
+		{
+			long now = System.currentTimeMillis();
+			long age = now - next.getLastModified();
+			if (unsettledSince == -1)
+				unsettledSince = now;
+			if (age >= 0 && age < QUIET_PERIOD && now - unsettledSince < MAX_DELAY)
+				requestCheck(QUIET_PERIOD - age);
+			else
+				next = hash(file, next);
+		}
+		if (next.isHashKnown() || !next.exists())
+			unsettledSince = -1;
+		synchronized (this)
+		{
+			if (file == gameFile)
+				publish(next);
+		}
+	}
+
+
+	/**
+	 * Reads the gamefile and hashes its contents.
+	 *
+	 * @param file  the gamefile
+	 * @param state the state of the gamefile before reading
+	 * @return the state after reading, with the hash if the gamefile didn't change while it was read
+	 */
+	private GameFileState hash(File file, GameFileState state)
+	{
+		try
+		{
+			byte[] data = Files.readAllBytes(file.toPath());
+			GameFileState after = GameFileState.read(file, null);
+			if (after.hasSameContentsAs(state) && data.length == after.getSize())
+				return after.withHash(Crc64.compute(data));
+			// the game started writing again while reading, the next check hashes the gamefile instead
+			requestCheck(QUIET_PERIOD);
+			return after;
+		}
+		catch (IOException e)
+		{
+			// the gamefile is gone or held exclusively by the game for the moment, the next check tries again
+			return state;
+		}
+	}
+
+
+	/**
+	 * Makes the given state the current one and notifies the listeners, unless it is the same as the current one. Must be called while holding the
+	 * lock of the monitor, so states are published in order.
+	 *
+	 * @param next the new state
+	 */
+	private void publish(GameFileState next)
+	{
+		if (next.equals(state))
+			return;
+		state = next;
+		SwingUtilities.invokeLater(() -> SavesManager.fireGameFileChangedEvent(next));
+	}
+
+
+	@Override
+	public void profileDeleted(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void profileCreated(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void profileDirectoryChanged(Game game)
+	{
+		if (game == GamesManager.getSelectedGame())
+			watch(game);
+	}
+
+
+	@Override
+	public void changedToProfile(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void changedToGame(Game game)
+	{
+		watch(game);
+	}
+
+
+	/**
+	 * Watches the directory of one gamefile on a background thread until it is closed.
+	 */
+	private class Session implements Runnable
+	{
+
+		private final Path gameFile;
+		private final WatchService service;
+
+
+		private Session(Path gameFile) throws IOException
+		{
+			this.gameFile = gameFile;
+			service = FileSystems.getDefault().newWatchService();
+			gameFile.getParent().register(service, EVENT_KINDS);
+		}
+
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				while (true)
+				{
+					WatchKey key = service.take();
+					boolean changed = false;
+					for (WatchEvent<?> event : key.pollEvents())
+					{
+						// lost events might have been changes to the gamefile
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW || gameFile.getFileName().equals(event.context()))
+							changed = true;
+					}
+					key.reset();
+					if (changed)
+						requestCheck(0);
+				}
+			}
+			catch (InterruptedException | ClosedWatchServiceException e)
+			{
+				// closed because another gamefile is watched now
+			}
+		}
+
+
+		private void close()
+		{
+			try
+			{
+				service.close();
+			}
+			catch (IOException e)
+			{
+				// the thread stops either way
+			}
+		}
+
+	}
+
+}
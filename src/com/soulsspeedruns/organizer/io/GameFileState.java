@@ -0,0 +1,201 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * GameFileState.
+ * <p>
+ * Immutable snapshot of the gamefile of a game as seen by the {@link GameFileMonitor}: whether it exists, whether it is writable, its size, its
+ * modification time and, once the gamefile was read, the hash of its contents.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class GameFileState
+{
+
+	private final File file;
+	private final boolean exists;
+	private final boolean writable;
+	private final long size;
+	private final long lastModified;
+	private final boolean hashKnown;
+	private final long hash;
+
+
+	private GameFileState(File file, boolean exists, boolean writable, long size, long lastModified, boolean hashKnown, long hash)
+	{
+		this.file = file;
+		this.exists = exists;
+		this.writable = writable;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.hashKnown = hashKnown;
+		this.hash = hash;
+	}
+
+
+	/**
+	 * Returns the state of a gamefile that doesn't exist.
+	 *
+	 * @param file the gamefile, can be null if the game has none set
+	 * @return the state
+	 */
+	public static GameFileState missing(File file)
+	{
+		return new GameFileState(file, false, false, 0, 0, false, 0);
+	}
+
+
+	/**
+	 * Reads the attributes of the given gamefile. The hash of the previous state is carried over if it is known and the size and modification time
+	 * are unchanged.
+	 *
+	 * @param file     the gamefile
+	 * @param previous the previous state of the gamefile, can be null
+	 * @return the state, without a hash unless it could be carried over
+	 */
+	public static GameFileState read(File file, GameFileState previous)
+	{
+		if (file == null)
+			return missing(null);
+		try
+		{
+			GameFileState state = of(file, FileAttributes.read(file.toPath()));
+			return previous != null && previous.hashKnown && state.hasSameContentsAs(previous) ? state.withHash(previous.hash) : state;
+		}
+		catch (NoSuchFileException e)
+		{
+			return missing(file);
+		}
+		catch (IOException e)
+		{
+			// held exclusively by the game for the moment, which only happens while it exists
+			return new GameFileState(file, true, file.canWrite(), file.length(), file.lastModified(), false, 0);
+		}
+	}
+
+
+	/**
+	 * Creates the state of the given gamefile from attributes that were read already.
+	 *
+	 * @param file       the gamefile
+	 * @param attributes its attributes, as returned by {@link FileAttributes#read(java.nio.file.Path)}
+	 * @return the state, without a hash
+	 */
+	public static GameFileState of(File file, BasicFileAttributes attributes)
+	{
+		return new GameFileState(file, true, FileAttributes.isWritable(file, attributes), attributes.size(), attributes.lastModifiedTime().toMillis(), false, 0);
+	}
+
+
+	/**
+	 * Returns a copy of this state with the given hash of the contents.
+	 *
+	 * @param hash the hash, as computed by {@link Crc64}
+	 * @return the new state
+	 */
+	public GameFileState withHash(long hash)
+	{
+		return new GameFileState(file, exists, writable, size, lastModified, exists, hash);
+	}
+
+
+	/**
+	 * Returns whether the given state is of the same gamefile with the same size and modification time, i.e. whether the contents can be assumed
+	 * to be unchanged.
+	 *
+	 * @param other the other state
+	 * @return whether both states have the same contents
+	 */
+	public boolean hasSameContentsAs(GameFileState other)
+	{
+		return exists == other.exists && size == other.size && lastModified == other.lastModified && Objects.equals(file, other.file);
+	}
+
+
+	/**
+	 * @return the gamefile, or null if the game has none set
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+
+
+	/**
+	 * @return whether the gamefile exists
+	 */
+	public boolean exists()
+	{
+		return exists;
+	}
+
+
+	/**
+	 * @return whether the gamefile is writable
+	 */
+	public boolean isWritable()
+	{
+		return writable;
+	}
+
+
+	/**
+	 * @return the size of the gamefile in bytes
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+
+	/**
+	 * @return the modification time of the gamefile, in milliseconds since the epoch
+	 */
+	public long getLastModified()
+	{
+		return lastModified;
+	}
+
+
+	/**
+	 * @return whether the hash of the contents is known
+	 */
+	public boolean isHashKnown()
+	{
+		return hashKnown;
+	}
+
+
+	/**
+	 * @return the hash of the contents as computed by {@link Crc64}, only valid if it is known
+	 */
+	public long getHash()
+	{
+		return hash;
+	}
+
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (!(obj instanceof GameFileState))
+			return false;
+		GameFileState other = (GameFileState) obj;
+		return hasSameContentsAs(other) && writable == other.writable && hashKnown == other.hashKnown && hash == other.hash;
+	}
+
+
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+	}
+
+}
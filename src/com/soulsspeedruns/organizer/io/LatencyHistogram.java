@@ -0,0 +1,143 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * LatencyHistogram.
+ * <p>
+ * Records durations in nanoseconds in log-linear buckets, the same way an HDR histogram does: every power of two is split into equally sized sub
+ * buckets, so percentiles are accurate to about 3% regardless of whether a duration is a few microseconds or several seconds. Recording is lock
+ * free and takes constant time.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class LatencyHistogram
+{
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// values below this are counted exactly, every power of two above is split into SUB_BUCKET_COUNT buckets
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+	private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+	private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - LINEAR_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalValue = new AtomicLong();
+	private final AtomicLong maxValue = new AtomicLong();
+
+
+	/**
+	 * Records the given duration.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos)
+	{
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(getBucketIndex(value));
+		totalCount.incrementAndGet();
+		totalValue.addAndGet(value);
+		long max;
+		while (value > (max = maxValue.get()) && !maxValue.compareAndSet(max, value))
+			;
+	}
+
+
+	/**
+	 * Returns the number of recorded durations.
+	 *
+	 * @return the number of recorded durations
+	 */
+	public long getCount()
+	{
+		return totalCount.get();
+	}
+
+
+	/**
+	 * Returns the longest recorded duration.
+	 *
+	 * @return the longest duration in nanoseconds, 0 if nothing was recorded
+	 */
+	public long getMax()
+	{
+		return maxValue.get();
+	}
+
+
+	/**
+	 * Returns the mean of the recorded durations.
+	 *
+	 * @return the mean in nanoseconds, 0 if nothing was recorded
+	 */
+	public long getMean()
+	{
+		long count = totalCount.get();
+		return count == 0 ? 0 : totalValue.get() / count;
+	}
+
+
+	/**
+	 * Returns the duration below or at which the given percentage of recorded durations lie. The result is the upper bound of the bucket the
+	 * percentile falls into, capped by the longest recorded duration.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the duration in nanoseconds, 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		long count = totalCount.get();
+		if (count == 0)
+			return 0;
+		long target = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			seen += counts.get(i);
+			if (seen >= target)
+				return Math.min(getBucketUpperBound(i), getMax());
+		}
+		return getMax();
+	}
+
+
+	/**
+	 * Discards all recorded durations.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+			counts.set(i, 0);
+		totalCount.set(0);
+		totalValue.set(0);
+		maxValue.set(0);
+	}
+
+
+	private static int getBucketIndex(long value)
+	{
+		if (value < LINEAR_LIMIT)
+			return (int) value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+		return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+
+	private static long getBucketUpperBound(int index)
+	{
+		if (index < LINEAR_LIMIT)
+			return index;
+		int exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + LINEAR_BITS;
+		int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+		int shift = exponent - SUB_BUCKET_BITS;
+		return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * LatencyMetrics.
+ * <p>
+ * Keeps a latency histogram for each timed phase of loading, importing, replacing and copying savestates.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class LatencyMetrics
+{
+
+	/**
+	 * The phases that are timed.
+	 */
+	public enum Phase
+	{
+		LOAD_TOTAL("Load: Total"),
+		LOAD_HOTKEY_RECEIPT("Load: Hotkey Receipt"),
+		LOAD_QUEUE_WAIT("Load: Queue Wait"),
+		LOAD_READ("Load: Read"),
+		LOAD_WRITE("Load: Write"),
+		LOAD_SET_WRITABLE("Load: Set Writable"),
+		LOAD_STARTED_LISTENERS("Load: Started Listeners"),
+		LOAD_FINISHED_LISTENERS("Load: Finished Listeners"),
+		IMPORT("Import"),
+		REPLACE("Replace"),
+		COPY("Copy");
+
+		private final String displayName;
+
+
+		private Phase(String displayName)
+		{
+			this.displayName = displayName;
+		}
+
+
+		/**
+		 * Returns the name of the phase as shown to the user.
+		 *
+		 * @return the display name
+		 */
+		public String getDisplayName()
+		{
+			return displayName;
+		}
+
+	}
+
+	private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+
+	/**
+	 * Creates a new LatencyMetrics instance with an empty histogram for each phase.
+	 */
+	public LatencyMetrics()
+	{
+		for (Phase phase : Phase.values())
+			histograms.put(phase, new LatencyHistogram());
+	}
+
+
+	/**
+	 * Records the duration of the given phase.
+	 *
+	 * @param phase the phase
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(Phase phase, long nanos)
+	{
+		histograms.get(phase).record(nanos);
+	}
+
+
+	/**
+	 * Records the time passed since the given start time for the given phase.
+	 *
+	 * @param phase the phase
+	 * @param start the start time as returned by {@link System#nanoTime()}
+	 * @return the current time, so that it can be used as the start of the next phase
+	 */
+	public long recordSince(Phase phase, long start)
+	{
+		long now = System.nanoTime();
+		record(phase, now - start);
+		return now;
+	}
+
+
+	/**
+	 * Returns the histogram of the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the histogram
+	 */
+	public LatencyHistogram getHistogram(Phase phase)
+	{
+		return histograms.get(phase);
+	}
+
+
+	/**
+	 * Discards all recorded durations.
+	 */
+	public void reset()
+	{
+		for (LatencyHistogram histogram : histograms.values())
+			histogram.reset();
+	}
+
+
+	/**
+	 * Writes the count, mean, p50, p99 and max of each phase as CSV, with durations in microseconds.
+	 *
+	 * @param writer the writer to write to
+	 * @throws IOException
+	 */
+	public void writeCsv(Writer writer) throws IOException
+	{
+		writer.write("Phase,Count,Mean (us),p50 (us),p99 (us),Max (us)\n");
+		for (Phase phase : Phase.values())
+		{
+			LatencyHistogram histogram = histograms.get(phase);
+			writer.write(String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f\n", phase.getDisplayName(), histogram.getCount(),
+					histogram.getMean() / 1000.0, histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+					histogram.getMax() / 1000.0));
+		}
+	}
+
+
+	/**
+	 * Formats the given duration for display, e.g. "850 us" or "12.3 ms".
+	 *
+	 * @param nanos the duration in nanoseconds
+	 * @return the formatted duration
+	 */
+	public static String formatDuration(long nanos)
+	{
+		if (nanos < 1000000)
+			return String.format("%d us", nanos / 1000);
+		if (nanos < 1000000000)
+			return String.format("%.1f ms", nanos / 1000000.0);
+		return String.format("%.2f s", nanos / 1000000000.0);
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.soulsspeedruns.organizer.savelist.Save;
+
+
+/**
+ * LoadExecutor.
+ * <p>
+ * Runs savestate loads on a single dedicated thread, so that neither the keyboard hook nor the event dispatch thread wait for the gamefile to be
+ * written. At most one load is pending at any time: requesting a load while another one is still waiting replaces it, so mashing the load
+ * hotkey only loads the last requested save once the current load is done.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class LoadExecutor
+{
+
+	private final Consumer<Request> loader;
+	private final ThreadPoolExecutor executor;
+	private final AtomicReference<Request> pending = new AtomicReference<>();
+
+
+	/**
+	 * Creates a new LoadExecutor.
+	 *
+	 * @param loader the action that performs a load, called on the loading thread
+	 */
+	public LoadExecutor(Consumer<Request> loader)
+	{
+		this.loader = loader;
+
+		// a single queued drain task is enough, it always picks up the latest pending save
+		executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+			Thread thread = new Thread(runnable, "Savestate Loader");
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.DiscardPolicy());
+	}
+
+
+	/**
+	 * Requests the given save to be loaded. Returns immediately. Replaces any load that was requested before but has not started yet.
+	 *
+	 * @param save the save to load
+	 */
+	public void submit(Save save)
+	{
+		pending.set(new Request(save, System.nanoTime()));
+		executor.execute(this::drain);
+	}
+
+
+	/**
+	 * Loads the latest pending save, if there is one.
+	 */
+	private void drain()
+	{
+		Request request = pending.getAndSet(null);
+		if (request != null)
+			loader.accept(request);
+	}
+
+
+	/**
+	 * A requested load.
+	 */
+	public static class Request
+	{
+
+		private final Save save;
+		private final long requestTime;
+
+
+		private Request(Save save, long requestTime)
+		{
+			this.save = save;
+			this.requestTime = requestTime;
+		}
+
+
+		/**
+		 * Returns the save to load.
+		 *
+		 * @return the save
+		 */
+		public Save getSave()
+		{
+			return save;
+		}
+
+
+		/**
+		 * Returns the time the load was requested at.
+		 *
+		 * @return the request time as returned by {@link System#nanoTime()}
+		 */
+		public long getRequestTime()
+		{
+			return requestTime;
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * LoadMetrics.
+ * <p>
+ * Counts how savestate loads were served, e.g. how often the contents were already in memory when a load was requested.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class LoadMetrics
+{
+
+	private final AtomicLong loads = new AtomicLong();
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong prefetchHits = new AtomicLong();
+	private final AtomicLong skippedLoads = new AtomicLong();
+	private final AtomicLong bytesWritten = new AtomicLong();
+	private final AtomicLong bytesLoaded = new AtomicLong();
+
+
+	/**
+	 * Records a load.
+	 *
+	 * @param cacheHit    whether the contents of the save were already cached
+	 * @param prefetchHit whether the contents were cached because the prefetcher read them ahead of time
+	 */
+	public void recordLoad(boolean cacheHit, boolean prefetchHit)
+	{
+		loads.incrementAndGet();
+		if (cacheHit)
+			cacheHits.incrementAndGet();
+		if (prefetchHit)
+			prefetchHits.incrementAndGet();
+	}
+
+
+	/**
+	 * Records a load that was skipped because the gamefile already held the contents of the save.
+	 */
+	public void recordSkip()
+	{
+		skippedLoads.incrementAndGet();
+	}
+
+
+	/**
+	 * Records how many bytes of the gamefile were written for a load.
+	 *
+	 * @param written the number of bytes that were written
+	 * @param size    the size of the loaded save
+	 */
+	public void recordWrite(long written, long size)
+	{
+		bytesWritten.addAndGet(written);
+		bytesLoaded.addAndGet(size);
+	}
+
+
+	/**
+	 * Returns the number of loads since the start of the organizer.
+	 *
+	 * @return the number of loads
+	 */
+	public long getLoads()
+	{
+		return loads.get();
+	}
+
+
+	/**
+	 * Returns the number of loads that were served from the save cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getCacheHits()
+	{
+		return cacheHits.get();
+	}
+
+
+	/**
+	 * Returns the number of loads that were served from contents the prefetcher read ahead of time.
+	 *
+	 * @return the number of prefetch hits
+	 */
+	public long getPrefetchHits()
+	{
+		return prefetchHits.get();
+	}
+
+
+	/**
+	 * Returns the number of loads that were skipped because the gamefile already held the contents of the save.
+	 *
+	 * @return the number of skipped loads
+	 */
+	public long getSkippedLoads()
+	{
+		return skippedLoads.get();
+	}
+
+
+	/**
+	 * Formats the number of bytes written to the gamefile as a fraction of the size of all written saves, e.g. "12 MB of 48 MB (25%)".
+	 *
+	 * @return the formatted amount
+	 */
+	public String formatBytesWritten()
+	{
+		long loaded = bytesLoaded.get();
+		if (loaded == 0)
+			return "No loads yet";
+		long written = bytesWritten.get();
+		return formatMegabytes(written) + " of " + formatMegabytes(loaded) + " (" + Math.round(written * 100.0 / loaded) + "%)";
+	}
+
+
+	private static String formatMegabytes(long bytes)
+	{
+		return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+	}
+
+
+	/**
+	 * Formats the given count as a fraction of all loads, e.g. "3/4 (75%)".
+	 *
+	 * @param count the count to format
+	 * @return the formatted rate
+	 */
+	public String formatRate(long count)
+	{
+		long total = getLoads();
+		if (total == 0)
+			return "No loads yet";
+		return count + "/" + total + " (" + Math.round(count * 100.0 / total) + "%)";
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+
+/**
+ * SaveCache.
+ * <p>
+ * Bounded in-memory cache for the contents of savefiles. Once the total size of the cached contents exceeds the capacity, the least recently used
+ * entries are evicted. Entries are validated against the size and modification time of their file on every access, so changes made outside of the
+ * organizer are never served from the cache.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SaveCache
+{
+
+	private final LinkedHashMap<String, CachedSave> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long capacity;
+	private long size;
+
+
+	/**
+	 * Creates a new SaveCache.
+	 *
+	 * @param capacity the maximum number of bytes to keep in memory
+	 */
+	public SaveCache(long capacity)
+	{
+		this.capacity = Math.max(0, capacity);
+	}
+
+
+	/**
+	 * Returns the contents of the given file. If the file is not cached or was changed since it was cached, it is read from disk and cached. If the
+	 * file is a reference to the save store or compressed, the uncompressed contents of the save are returned.
+	 *
+	 * @param file the file to get the contents of
+	 * @return the contents of the file
+	 * @throws IOException
+	 */
+	public CachedSave get(File file) throws IOException
+	{
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		long fileSize = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+
+		CachedSave cached = getIfValid(file, fileSize, lastModified);
+		if (cached != null)
+			return cached;
+
+		byte[] raw = Files.readAllBytes(file.toPath());
+		// references and compressed files are resolved to the contents of the save, but validated against the size of the file itself
+		cached = new CachedSave(file, raw.length, lastModified, SaveCompression.decode(SaveStore.resolve(file, raw)));
+		// the file was written to while reading it, so the contents cannot be tied to the attributes read before
+		if (raw.length == fileSize)
+			put(cached);
+		return cached;
+	}
+
+
+	/**
+	 * Returns the contents of the given file if they are cached and still up to date. Never reads the contents from disk.
+	 *
+	 * @param file the file to get the contents of
+	 * @return the cached contents, or null if nothing valid is cached
+	 * @throws IOException
+	 */
+	public CachedSave getIfCached(File file) throws IOException
+	{
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		return getIfValid(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+	}
+
+
+	/**
+	 * Returns the cached contents of the given file, if they are still valid for the given size and modification time.
+	 *
+	 * @param file         the file
+	 * @param fileSize     the current size of the file
+	 * @param lastModified the current modification time of the file
+	 * @return the cached contents, or null if nothing valid is cached
+	 */
+	private synchronized CachedSave getIfValid(File file, long fileSize, long lastModified)
+	{
+		String key = file.getPath();
+		CachedSave cached = entries.get(key);
+		if (cached == null)
+			return null;
+		if (cached.isValidFor(fileSize, lastModified))
+			return cached;
+		entries.remove(key);
+		size -= cached.getData().length;
+		return null;
+	}
+
+
+	/**
+	 * Adds the given contents to the cache, evicting the least recently used entries if necessary. Contents larger than the capacity are not
+	 * cached.
+	 *
+	 * @param cached the contents to add
+	 */
+	public synchronized void put(CachedSave cached)
+	{
+		CachedSave previous = entries.remove(cached.getFile().getPath());
+		if (previous != null)
+			size -= previous.getData().length;
+		if (cached.getData().length > capacity)
+			return;
+		entries.put(cached.getFile().getPath(), cached);
+		size += cached.getData().length;
+		trim();
+	}
+
+
+	/**
+	 * Removes the given file from the cache.
+	 *
+	 * @param file the file to remove
+	 */
+	public synchronized void invalidate(File file)
+	{
+		CachedSave previous = entries.remove(file.getPath());
+		if (previous != null)
+			size -= previous.getData().length;
+	}
+
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void clear()
+	{
+		entries.clear();
+		size = 0;
+	}
+
+
+	/**
+	 * Sets the maximum number of bytes to keep in memory, evicting entries if necessary.
+	 *
+	 * @param capacity the new capacity in bytes
+	 */
+	public synchronized void setCapacity(long capacity)
+	{
+		this.capacity = Math.max(0, capacity);
+		trim();
+	}
+
+
+	/**
+	 * Returns the maximum number of bytes kept in memory.
+	 *
+	 * @return the capacity in bytes
+	 */
+	public synchronized long getCapacity()
+	{
+		return capacity;
+	}
+
+
+	/**
+	 * Returns the number of bytes currently held in memory.
+	 *
+	 * @return the size of all cached contents in bytes
+	 */
+	public synchronized long getSize()
+	{
+		return size;
+	}
+
+
+	/**
+	 * Evicts the least recently used entries until the cache fits within its capacity.
+	 */
+	private void trim()
+	{
+		Iterator<CachedSave> iterator = entries.values().iterator();
+		while (size > capacity && iterator.hasNext())
+		{
+			size -= iterator.next().getData().length;
+			iterator.remove();
+		}
+	}
+
+}
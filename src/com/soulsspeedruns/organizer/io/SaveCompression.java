@@ -0,0 +1,187 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+
+/**
+ * SaveCompression.
+ * <p>
+ * Compresses savefiles at rest. A compressed savefile starts with a small header holding a magic number, the format version and the size of the
+ * uncompressed contents, followed by the contents compressed with Deflate at its fastest level. Savefiles without the header are read as they are,
+ * so compressed and uncompressed savefiles can be mixed freely within a profile.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class SaveCompression
+{
+
+	private static final byte[] MAGIC = { 'S', 'S', 'O', 'Z' };
+	private static final byte VERSION = 1;
+	private static final int HEADER_SIZE = MAGIC.length + 1 + Long.BYTES;
+
+
+	private SaveCompression()
+	{
+	}
+
+
+	/**
+	 * Returns whether the given file contents are compressed.
+	 *
+	 * @param contents the contents of a file
+	 * @return whether the contents start with the header of a compressed savefile
+	 */
+	public static boolean isCompressed(byte[] contents)
+	{
+		if (contents.length < HEADER_SIZE)
+			return false;
+		for (int i = 0; i < MAGIC.length; i++)
+		{
+			if (contents[i] != MAGIC[i])
+				return false;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Returns the size of the uncompressed contents announced in the header of the given compressed contents.
+	 *
+	 * @param contents the compressed contents, at least their header
+	 * @return the uncompressed size
+	 */
+	static long getUncompressedSize(byte[] contents)
+	{
+		return ByteBuffer.wrap(contents, MAGIC.length + 1, Long.BYTES).getLong();
+	}
+
+
+	/**
+	 * Compresses the given contents.
+	 *
+	 * @param contents the uncompressed contents
+	 * @return the compressed contents, including the header
+	 */
+	public static byte[] compress(byte[] contents)
+	{
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try
+		{
+			deflater.setInput(contents);
+			deflater.finish();
+			byte[] compressed = new byte[HEADER_SIZE + contents.length / 2 + 64];
+			ByteBuffer.wrap(compressed).put(MAGIC).put(VERSION).putLong(contents.length);
+			int length = HEADER_SIZE;
+			while (!deflater.finished())
+			{
+				if (length == compressed.length)
+					compressed = Arrays.copyOf(compressed, compressed.length + (compressed.length >> 1));
+				length += deflater.deflate(compressed, length, compressed.length - length);
+			}
+			return Arrays.copyOf(compressed, length);
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+
+	/**
+	 * Decompresses the given contents.
+	 *
+	 * @param contents the compressed contents, including the header
+	 * @return the uncompressed contents
+	 * @throws IOException if the contents are damaged or were written by a newer version of the organizer
+	 */
+	public static byte[] decompress(byte[] contents) throws IOException
+	{
+		ByteBuffer header = ByteBuffer.wrap(contents, MAGIC.length, HEADER_SIZE - MAGIC.length);
+		byte version = header.get();
+		if (version != VERSION)
+			throw new IOException("Unsupported compressed savefile version " + version);
+		long size = header.getLong();
+		if (size < 0 || size > Integer.MAX_VALUE)
+			throw new IOException("Damaged compressed savefile");
+
+		Inflater inflater = new Inflater();
+		try
+		{
+			inflater.setInput(contents, HEADER_SIZE, contents.length - HEADER_SIZE);
+			byte[] data = new byte[(int) size];
+			int length = 0;
+			while (!inflater.finished())
+			{
+				int inflated = inflater.inflate(data, length, data.length - length);
+				// more output than the header announced, or the stream was cut off
+				if (inflated == 0 && (length == data.length || inflater.needsInput() || inflater.needsDictionary()))
+					break;
+				length += inflated;
+			}
+			if (length != data.length || !inflater.finished())
+				throw new IOException("Damaged compressed savefile");
+			return data;
+		}
+		catch (DataFormatException e)
+		{
+			throw new IOException("Damaged compressed savefile", e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+	}
+
+
+	/**
+	 * Returns the uncompressed contents of the given file contents, decompressing them if necessary.
+	 *
+	 * @param contents the contents of a file
+	 * @return the uncompressed contents, the given array itself if it isn't compressed
+	 * @throws IOException if the contents are compressed but can't be decompressed
+	 */
+	public static byte[] decode(byte[] contents) throws IOException
+	{
+		return isCompressed(contents) ? decompress(contents) : contents;
+	}
+
+
+	/**
+	 * Compresses the given savefile in place, keeping its modification time and writable state. If the savefile is a reference to a save store, the
+	 * referenced blob is compressed instead. Does nothing if the contents are already compressed or don't get any smaller, or if the file changed,
+	 * was renamed or was deleted while it was being compressed.
+	 *
+	 * @param file the savefile
+	 * @return whether the savefile or its blob was compressed
+	 * @throws IOException
+	 */
+	public static boolean compressFile(File file) throws IOException
+	{
+		File target = file;
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		byte[] contents = Files.readAllBytes(file.toPath());
+		if (SaveStore.isReference(contents))
+		{
+			target = SaveStore.getReferencedBlob(file, contents);
+			attributes = Files.readAttributes(target.toPath(), BasicFileAttributes.class);
+			contents = Files.readAllBytes(target.toPath());
+		}
+		if (isCompressed(contents))
+			return false;
+		byte[] compressed = compress(contents);
+		if (compressed.length >= contents.length)
+			return false;
+		return SaveStore.replace(target, attributes, compressed);
+	}
+
+}
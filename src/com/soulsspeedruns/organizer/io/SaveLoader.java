@@ -0,0 +1,412 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import com.soulsspeedruns.organizer.io.LatencyMetrics.Phase;
+
+
+/**
+ * SaveLoader.
+ * <p>
+ * Writes the contents of savestates over the gamefile. Remembers what it wrote last, so that loading a save that is already in the gamefile can
+ * be skipped if the gamefile was not touched since. The same goes for contents the game wrote itself, if the {@link GameFileMonitor} hashed them
+ * already. With delta writes enabled only the blocks of the gamefile that differ from the save are
+ * rewritten.
+ * <p>
+ * With atomic writes enabled, which take precedence over delta writes, the save is written to a temporary file next to the gamefile which then
+ * replaces the gamefile in a single rename, so the game never sees a half-written gamefile and a failed load leaves the previous one intact. The
+ * temporary file of the save that is most likely loaded next can be staged ahead of time, so that loading it only has to rename it.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SaveLoader
+{
+
+	private final LoadMetrics metrics;
+	private final LatencyMetrics latencies;
+
+	private volatile boolean skipIdentical;
+	private volatile boolean deltaWrites;
+	private volatile boolean atomicWrites;
+
+	private CachedSave lastWritten;
+	private File lastGameFile;
+	private long lastGameFileSize;
+	private FileTime lastGameFileModified;
+
+	private CachedSave staged;
+	private File stagedFile;
+	private long stagedFileSize;
+	private FileTime stagedFileModified;
+
+
+	/**
+	 * Creates a new SaveLoader.
+	 *
+	 * @param metrics       the metrics to record skipped loads and written bytes in
+	 * @param latencies     the metrics to record the durations of writing and toggling the writable state in
+	 * @param skipIdentical whether to skip loads of contents that are already in the gamefile
+	 * @param deltaWrites   whether to only rewrite the blocks of the gamefile that differ from the loaded save
+	 * @param atomicWrites  whether to replace the gamefile through a temporary file
+	 */
+	public SaveLoader(LoadMetrics metrics, LatencyMetrics latencies, boolean skipIdentical, boolean deltaWrites, boolean atomicWrites)
+	{
+		this.metrics = metrics;
+		this.latencies = latencies;
+		this.skipIdentical = skipIdentical;
+		this.deltaWrites = deltaWrites;
+		this.atomicWrites = atomicWrites;
+	}
+
+
+	/**
+	 * Sets whether to skip loads of contents that are already in the gamefile.
+	 *
+	 * @param skipIdentical true to skip identical loads
+	 */
+	public void setSkipIdentical(boolean skipIdentical)
+	{
+		this.skipIdentical = skipIdentical;
+	}
+
+
+	/**
+	 * Sets whether to only rewrite the blocks of the gamefile that differ from the loaded save.
+	 *
+	 * @param deltaWrites true to enable delta writes
+	 */
+	public void setDeltaWrites(boolean deltaWrites)
+	{
+		this.deltaWrites = deltaWrites;
+	}
+
+
+	/**
+	 * Sets whether to replace the gamefile through a temporary file instead of writing it in place. Disabling atomic writes deletes the staged
+	 * temporary file, if any.
+	 *
+	 * @param atomicWrites true to enable atomic writes
+	 */
+	public void setAtomicWrites(boolean atomicWrites)
+	{
+		this.atomicWrites = atomicWrites;
+		if (!atomicWrites)
+			discardStaged();
+	}
+
+
+	/**
+	 * Writes the temporary file for loading the given contents with atomic writes ahead of time, replacing the one staged before. Does nothing if
+	 * atomic writes are disabled or the contents are staged already.
+	 *
+	 * @param content  the contents of the save that is likely loaded next
+	 * @param gameFile the gamefile the save would be loaded over
+	 * @throws IOException
+	 */
+	public void stage(CachedSave content, File gameFile) throws IOException
+	{
+		if (!atomicWrites)
+			return;
+		File file = getTempFile(gameFile, ".staged");
+		synchronized (this)
+		{
+			if (file.equals(stagedFile) && isStagedIntact() && staged.hasSameContentAs(content))
+				return;
+		}
+		// written outside of the lock, so a load never has to wait for staging
+		File pendingFile = getTempFile(gameFile, ".pending");
+		content.writeTo(pendingFile);
+		synchronized (this)
+		{
+			Files.move(pendingFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			// staged for the gamefile of another game before
+			if (stagedFile != null && !stagedFile.equals(file))
+				stagedFile.delete();
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			staged = content;
+			stagedFile = file;
+			stagedFileSize = attributes.size();
+			stagedFileModified = attributes.lastModifiedTime();
+		}
+	}
+
+
+	/**
+	 * Deletes the staged temporary file, if any.
+	 */
+	public synchronized void discardStaged()
+	{
+		if (stagedFile != null)
+			stagedFile.delete();
+		staged = null;
+		stagedFile = null;
+	}
+
+
+	/**
+	 * Writes the given contents over the gamefile and sets the writable state of the gamefile afterwards.
+	 *
+	 * @param content  the contents of the save to load
+	 * @param gameFile the gamefile to overwrite
+	 * @param writable whether the gamefile should be writable after the load
+	 * @param known    the last state of the gamefile published by the monitor, can be null
+	 * @return true if the gamefile was written, false if the load was skipped because the gamefile already held the contents
+	 * @throws IOException
+	 */
+	public synchronized boolean load(CachedSave content, File gameFile, boolean writable, GameFileState known) throws IOException
+	{
+		boolean unchanged = isUnchangedSinceLastWrite(gameFile);
+		if (skipIdentical && (unchanged ? lastWritten.hasSameContentAs(content) : holdsContent(known, gameFile, content)))
+		{
+			if (gameFile.canWrite() != writable)
+				gameFile.setWritable(writable);
+			metrics.recordSkip();
+			return false;
+		}
+
+		long start = System.nanoTime();
+		// replacing the gamefile atomically keeps it read-only until the very last moment
+		if (!atomicWrites)
+			gameFile.setWritable(true);
+		long writeStart = System.nanoTime();
+		long written;
+		if (atomicWrites)
+			written = writeAtomic(content, gameFile, writable);
+		else if (deltaWrites && gameFile.exists())
+			written = writeDelta(content, gameFile, unchanged ? lastWritten : null);
+		else
+		{
+			content.writeTo(gameFile);
+			written = content.getData().length;
+		}
+		long writeEnd = latencies.recordSince(Phase.LOAD_WRITE, writeStart);
+		if (!atomicWrites)
+			gameFile.setWritable(writable);
+		latencies.record(Phase.LOAD_SET_WRITABLE, (writeStart - start) + (System.nanoTime() - writeEnd));
+		metrics.recordWrite(written, content.getData().length);
+
+		BasicFileAttributes attributes = Files.readAttributes(gameFile.toPath(), BasicFileAttributes.class);
+		lastWritten = content;
+		lastGameFile = gameFile;
+		lastGameFileSize = attributes.size();
+		lastGameFileModified = attributes.lastModifiedTime();
+		return true;
+	}
+
+
+	/**
+	 * Returns whether the gamefile still holds exactly what was last written to it.
+	 *
+	 * @param gameFile the gamefile
+	 * @return whether the gamefile was not touched since the last load
+	 * @throws IOException
+	 */
+	private boolean isUnchangedSinceLastWrite(File gameFile) throws IOException
+	{
+		if (lastWritten == null || !gameFile.equals(lastGameFile))
+			return false;
+		try
+		{
+			BasicFileAttributes attributes = Files.readAttributes(gameFile.toPath(), BasicFileAttributes.class);
+			return attributes.size() == lastGameFileSize && attributes.lastModifiedTime().equals(lastGameFileModified);
+		}
+		catch (NoSuchFileException e)
+		{
+			return false;
+		}
+	}
+
+
+	/**
+	 * Returns whether the given state of the gamefile is still current and has the hash of the given contents.
+	 *
+	 * @param known    the state of the gamefile published by the monitor, can be null
+	 * @param gameFile the gamefile
+	 * @param content  the contents to load
+	 * @return whether the gamefile holds the contents
+	 */
+	private boolean holdsContent(GameFileState known, File gameFile, CachedSave content)
+	{
+		if (known == null || !known.isHashKnown() || !gameFile.equals(known.getFile()) || known.getSize() != content.getData().length)
+			return false;
+		return known.getHash() == content.getHash() && GameFileState.read(gameFile, null).hasSameContentsAs(known);
+	}
+
+
+	/**
+	 * Replaces the gamefile with a temporary file holding the given contents. Uses the staged temporary file if it holds the contents, otherwise
+	 * writes a new one. The temporary file gets the writable state before replacing the gamefile, so the gamefile is never briefly writable. A
+	 * read-only gamefile is only made writable right before the rename, since Windows refuses to replace read-only files, and made read-only again
+	 * if the rename fails.
+	 *
+	 * @param content  the contents to write
+	 * @param gameFile the gamefile to replace
+	 * @param writable whether the gamefile should be writable after the load
+	 * @return the number of bytes written during the load
+	 * @throws IOException
+	 */
+	private long writeAtomic(CachedSave content, File gameFile, boolean writable) throws IOException
+	{
+		File tempFile;
+		long written;
+		if (getTempFile(gameFile, ".staged").equals(stagedFile) && isStagedIntact() && staged.hasSameContentAs(content))
+		{
+			tempFile = stagedFile;
+			written = 0;
+		}
+		else
+		{
+			tempFile = getTempFile(gameFile, ".tmp");
+			content.writeTo(tempFile);
+			written = content.getData().length;
+		}
+		// the staged file is used up either way, or belongs to a different save
+		if (tempFile == stagedFile)
+		{
+			staged = null;
+			stagedFile = null;
+		}
+		boolean wasReadOnly = gameFile.exists() && !gameFile.canWrite();
+		boolean moved = false;
+		try
+		{
+			tempFile.setWritable(writable);
+			if (wasReadOnly)
+				gameFile.setWritable(true);
+			Files.move(tempFile.toPath(), gameFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			moved = true;
+		}
+		finally
+		{
+			if (!moved)
+			{
+				if (wasReadOnly)
+					gameFile.setWritable(false);
+				tempFile.setWritable(true);
+				tempFile.delete();
+			}
+		}
+		return written;
+	}
+
+
+	/**
+	 * Returns whether the staged temporary file still holds exactly what was staged.
+	 */
+	private boolean isStagedIntact()
+	{
+		if (stagedFile == null)
+			return false;
+		try
+		{
+			BasicFileAttributes attributes = Files.readAttributes(stagedFile.toPath(), BasicFileAttributes.class);
+			return attributes.size() == stagedFileSize && attributes.lastModifiedTime().equals(stagedFileModified);
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+
+	/**
+	 * Returns a temporary file next to the given gamefile, named so that the organizer ignores it.
+	 */
+	private static File getTempFile(File gameFile, String suffix)
+	{
+		return new File(gameFile.getParentFile(), ".sso-" + gameFile.getName() + suffix);
+	}
+
+
+	/**
+	 * Rewrites only the blocks of the gamefile that differ from the given contents and truncates or extends it to the size of the contents. If the
+	 * contents the gamefile currently holds are known, the blocks are compared by their hashes. Otherwise the gamefile is read and compared block
+	 * by block.
+	 *
+	 * @param content  the contents to write
+	 * @param gameFile the gamefile to update
+	 * @param current  the contents the gamefile is known to hold, or null if unknown
+	 * @return the number of bytes written
+	 * @throws IOException
+	 */
+	private long writeDelta(CachedSave content, File gameFile, CachedSave current) throws IOException
+	{
+		byte[] data = content.getData();
+		long[] hashes = current != null ? content.getBlockHashes() : null;
+		long[] currentHashes = current != null ? current.getBlockHashes() : null;
+		ByteBuffer block = current == null ? ByteBuffer.allocate(CachedSave.BLOCK_SIZE) : null;
+		long written = 0;
+
+		try (FileChannel channel = FileChannel.open(gameFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long currentSize = channel.size();
+			for (int i = 0; i < content.getBlockCount(); i++)
+			{
+				int offset = i * CachedSave.BLOCK_SIZE;
+				int length = content.getBlockLength(i);
+
+				boolean differs;
+				if (offset + length > currentSize)
+					differs = true;
+				else if (currentHashes != null)
+					differs = i >= currentHashes.length || currentHashes[i] != hashes[i];
+				else
+					differs = !blockEquals(channel, block, offset, data, length);
+
+				if (differs)
+				{
+					ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+					long position = offset;
+					while (buffer.hasRemaining())
+						position += channel.write(buffer, position);
+					written += length;
+				}
+			}
+			if (currentSize > data.length)
+				channel.truncate(data.length);
+		}
+		return written;
+	}
+
+
+	/**
+	 * Returns whether the block of the file at the given offset holds the same bytes as the given range of the contents.
+	 *
+	 * @param channel the channel of the file
+	 * @param block   the buffer to read the block into
+	 * @param offset  the offset of the block
+	 * @param data    the contents to compare to
+	 * @param length  the length of the block
+	 * @return whether the block is identical
+	 * @throws IOException
+	 */
+	private boolean blockEquals(FileChannel channel, ByteBuffer block, int offset, byte[] data, int length) throws IOException
+	{
+		block.clear();
+		block.limit(length);
+		while (block.hasRemaining())
+		{
+			if (channel.read(block, offset + block.position()) < 0)
+				return false;
+		}
+		byte[] existing = block.array();
+		for (int i = 0; i < length; i++)
+		{
+			if (existing[i] != data[offset + i])
+				return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,219 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.soulsspeedruns.organizer.listeners.SaveListener;
+import com.soulsspeedruns.organizer.savelist.Save;
+import com.soulsspeedruns.organizer.savelist.SaveListEntry;
+import com.soulsspeedruns.organizer.savelist.SaveListModel;
+
+
+/**
+ * SavePrefetcher.
+ * <p>
+ * Reads the selected save and its neighbours in the save list into the save cache in the background, so that the next load is very likely to
+ * only have to write the gamefile. A new selection supersedes any prefetching still pending for the previous one.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SavePrefetcher implements SaveListener
+{
+
+	private final SaveCache cache;
+	private final ExecutorService executor;
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private volatile SaveListModel listModel;
+	private volatile int depth;
+	private volatile long budget;
+
+
+	/**
+	 * Creates a new SavePrefetcher.
+	 *
+	 * @param cache  the cache to read the saves into
+	 * @param depth  the number of neighbours to prefetch in each direction
+	 * @param budget the maximum number of bytes to read ahead for a single selection
+	 */
+	public SavePrefetcher(SaveCache cache, int depth, long budget)
+	{
+		this.cache = cache;
+		this.depth = depth;
+		this.budget = budget;
+
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Savestate Prefetcher");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		});
+	}
+
+
+	/**
+	 * Sets the list model in which the neighbours of a selected save are looked up.
+	 *
+	 * @param listModel the model of the save list
+	 */
+	public void setListModel(SaveListModel listModel)
+	{
+		this.listModel = listModel;
+	}
+
+
+	/**
+	 * Sets the number of neighbours to prefetch above and below the selected save.
+	 *
+	 * @param depth the number of neighbours in each direction
+	 */
+	public void setDepth(int depth)
+	{
+		this.depth = Math.max(0, depth);
+	}
+
+
+	/**
+	 * Sets the maximum number of bytes to read ahead for a single selection.
+	 *
+	 * @param budget the budget in bytes
+	 */
+	public void setBudget(long budget)
+	{
+		this.budget = Math.max(0, budget);
+	}
+
+
+	/**
+	 * Prefetches the given save and its neighbours in the save list.
+	 *
+	 * @param entry the selected entry
+	 */
+	public void prefetch(SaveListEntry entry)
+	{
+		int currentGeneration = generation.incrementAndGet();
+		if (!(entry instanceof Save) || budget <= 0 || cache.getCapacity() <= 0)
+			return;
+		List<File> files = collectFiles(entry);
+		executor.execute(() -> readAhead(currentGeneration, files));
+	}
+
+
+	/**
+	 * Collects the files of the given save and its neighbours, ordered by their distance to the save.
+	 *
+	 * @param entry the selected save
+	 * @return the files to prefetch
+	 */
+	private List<File> collectFiles(SaveListEntry entry)
+	{
+		List<File> files = new ArrayList<>();
+		files.add(entry.getFile());
+
+		SaveListModel model = listModel;
+		if (model == null || depth == 0)
+			return files;
+
+		int index = model.indexOf(entry);
+		if (index == -1)
+			return files;
+
+		for (int distance = 1; distance <= depth; distance++)
+		{
+			addIfSave(model, index + distance, files);
+			addIfSave(model, index - distance, files);
+		}
+		return files;
+	}
+
+
+	private void addIfSave(SaveListModel model, int index, List<File> files)
+	{
+		if (index < 0 || index >= model.getSize())
+			return;
+		SaveListEntry entry = model.getElementAt(index);
+		if (entry instanceof Save)
+			files.add(entry.getFile());
+	}
+
+
+	/**
+	 * Reads the given files into the cache until the budget is used up or a newer selection arrives.
+	 *
+	 * @param requestedGeneration the generation of the selection that requested the prefetch
+	 * @param files               the files to read
+	 */
+	private void readAhead(int requestedGeneration, List<File> files)
+	{
+		long remaining = Math.min(budget, cache.getCapacity());
+		for (File file : files)
+		{
+			if (generation.get() != requestedGeneration)
+				return;
+			long size = file.length();
+			if (size > remaining)
+				return;
+			remaining -= size;
+			try
+			{
+				if (cache.getIfCached(file) != null)
+					continue;
+				CachedSave content = cache.get(file);
+				// references to the save store are much smaller than the contents they resolve to
+				remaining -= content.getData().length - size;
+				content.setPrefetched(true);
+				// hashing here keeps it off the load path when identical loads are skipped
+				content.getHash();
+			}
+			catch (IOException e)
+			{
+				// the file might have been moved or deleted in the meantime, just skip it
+			}
+		}
+	}
+
+
+	@Override
+	public void entrySelected(SaveListEntry entry)
+	{
+		prefetch(entry);
+	}
+
+
+	@Override
+	public void entryCreated(SaveListEntry entry)
+	{
+	}
+
+
+	@Override
+	public void entryRenamed(SaveListEntry entry)
+	{
+	}
+
+
+	@Override
+	public void saveLoadStarted(Save save)
+	{
+	}
+
+
+	@Override
+	public void saveLoadFinished(Save save)
+	{
+	}
+
+
+	@Override
+	public void gameFileWritableStateChanged(boolean writeable)
+	{
+	}
+
+}
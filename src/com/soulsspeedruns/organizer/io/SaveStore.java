@@ -0,0 +1,575 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+
+
+/**
+ * SaveStore.
+ * <p>
+ * Content-addressed store for the contents of savefiles, kept in the directory of a game. Each distinct content is stored once as a blob named
+ * after its SHA-256 hash, and savefiles in the profiles of the game can be replaced by small references to a blob. Copying a reference copies only
+ * the reference, so identical saves in several folders or profiles take up the space of one.
+ * <p>
+ * The contents of a blob never change once written, though a blob may be compressed in place with {@link SaveCompression}. Blobs that are no
+ * longer referenced by any savefile are only deleted by {@link #collectGarbage()}.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SaveStore
+{
+
+	/**
+	 * Name of the store directory in the game directory.
+	 */
+	public static final String DIRECTORY_NAME = ".sso-store";
+
+	private static final String REFERENCE_HEADER = "SSO-REF";
+	private static final byte[] REFERENCE_MAGIC = (REFERENCE_HEADER + "\n").getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Upper bound for the size of a reference, files larger than this are never read as one.
+	 */
+	private static final int MAX_REFERENCE_SIZE = 128;
+
+	/**
+	 * Minimum age of an unreferenced blob before it is collected, so a blob that was just stored isn't deleted before its reference is written.
+	 */
+	private static final long GARBAGE_GRACE_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+	/**
+	 * Held while a savefile is replaced, and by the save list while it deletes, renames or moves savefiles, so a savefile that is rewritten in the
+	 * background never reappears at a path it was moved away from.
+	 */
+	private static final Object FILE_LOCK = new Object();
+
+	private final File gameDirectory;
+	private final File directory;
+
+
+	/**
+	 * Creates a new SaveStore for the given game directory. The store directory is only created once the first blob is stored.
+	 *
+	 * @param gameDirectory the directory of the game
+	 */
+	public SaveStore(File gameDirectory)
+	{
+		this.gameDirectory = gameDirectory;
+		directory = new File(gameDirectory, DIRECTORY_NAME);
+	}
+
+
+	/**
+	 * Returns the contents of the save the given file contents belong to. If the contents are a reference, the uncompressed contents of the
+	 * referenced blob are read from the store of the game the file is in, otherwise the contents are returned as they are.
+	 *
+	 * @param file     the file the contents were read from
+	 * @param contents the contents of the file
+	 * @return the contents of the save
+	 * @throws IOException if the file is a reference but its blob can't be read
+	 */
+	public static byte[] resolve(File file, byte[] contents) throws IOException
+	{
+		if (!isReference(contents))
+			return contents;
+		return getStore(file).read(Reference.parse(contents));
+	}
+
+
+	/**
+	 * Returns the blob the given reference refers to.
+	 *
+	 * @param file     the reference file
+	 * @param contents the contents of the reference file
+	 * @return the blob
+	 * @throws IOException if the reference is invalid or its blob doesn't exist
+	 */
+	static File getReferencedBlob(File file, byte[] contents) throws IOException
+	{
+		Reference reference = Reference.parse(contents);
+		File blob = getStore(file).getBlob(reference.hash);
+		if (!blob.exists())
+			throw new IOException("Missing blob " + reference.hash + " for " + file.getPath());
+		return blob;
+	}
+
+
+	/**
+	 * Returns the size of the save in the given savefile, which is the size of the uncompressed contents if the savefile is a reference or
+	 * compressed. Only the beginning of the savefile is read.
+	 *
+	 * @param file     the savefile
+	 * @param fileSize the size of the savefile itself
+	 * @return the size of the save, or the size of the savefile if its beginning can't be read
+	 */
+	public static long readSaveSize(File file, long fileSize)
+	{
+		byte[] head = new byte[(int) Math.min(fileSize, MAX_REFERENCE_SIZE)];
+		// too small to be a reference or compressed
+		if (head.length < REFERENCE_MAGIC.length)
+			return fileSize;
+		try (InputStream in = Files.newInputStream(file.toPath()))
+		{
+			int length = 0;
+			int read;
+			while (length < head.length && (read = in.read(head, length, head.length - length)) != -1)
+				length += read;
+			if (length < head.length)
+				return fileSize;
+			if (fileSize <= MAX_REFERENCE_SIZE && isReference(head))
+				return Reference.parse(head).size;
+			if (SaveCompression.isCompressed(head))
+				return SaveCompression.getUncompressedSize(head);
+		}
+		catch (IOException e)
+		{
+			// sorted by the size of the savefile itself until it is read again
+		}
+		return fileSize;
+	}
+
+
+	/**
+	 * Returns whether the given file contents are a reference to a blob.
+	 *
+	 * @param contents the contents of a file
+	 * @return whether the contents are a reference
+	 */
+	public static boolean isReference(byte[] contents)
+	{
+		if (contents.length > MAX_REFERENCE_SIZE || contents.length < REFERENCE_MAGIC.length)
+			return false;
+		for (int i = 0; i < REFERENCE_MAGIC.length; i++)
+		{
+			if (contents[i] != REFERENCE_MAGIC[i])
+				return false;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Returns the store of the game directory the given file is in.
+	 *
+	 * @param file the file
+	 * @return the store
+	 * @throws IOException if none of the parents of the file holds a store
+	 */
+	private static SaveStore getStore(File file) throws IOException
+	{
+		File parent = file.getAbsoluteFile().getParentFile();
+		while (parent != null)
+		{
+			if (new File(parent, DIRECTORY_NAME).isDirectory())
+				return new SaveStore(parent);
+			parent = parent.getParentFile();
+		}
+		throw new IOException("No save store found for " + file.getPath());
+	}
+
+
+	/**
+	 * Stores the given contents as a blob and writes a reference to it to the given file.
+	 *
+	 * @param contents the contents to store
+	 * @param target   the file to write the reference to, which must not exist yet
+	 * @throws IOException
+	 */
+	public void store(byte[] contents, File target) throws IOException
+	{
+		Reference reference = put(contents, contents);
+		Files.write(target.toPath(), reference.toBytes());
+	}
+
+
+	/**
+	 * Replaces the contents of the given savefile with a reference to them. A compressed savefile is stored as a compressed blob. The
+	 * modification time and the writable state of the file are kept. Does nothing if the file already is a reference, or if it changed while it was
+	 * being converted.
+	 *
+	 * @param file the savefile
+	 * @return whether the file was replaced
+	 * @throws IOException
+	 */
+	public boolean deduplicate(File file) throws IOException
+	{
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		byte[] contents = Files.readAllBytes(file.toPath());
+		if (isReference(contents))
+			return false;
+		return replace(file, attributes, put(SaveCompression.decode(contents), contents).toBytes());
+	}
+
+
+	/**
+	 * Replaces the given reference or compressed savefile with the uncompressed contents of the save, so the savefile can be used without the
+	 * organizer. The modification time and the writable state of the file are kept. Does nothing if the file already is a plain savefile, or if it
+	 * changed while it was being converted.
+	 *
+	 * @param file the savefile
+	 * @return whether the file was replaced
+	 * @throws IOException
+	 */
+	public boolean export(File file) throws IOException
+	{
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		byte[] contents = Files.readAllBytes(file.toPath());
+		byte[] plain = SaveCompression.decode(isReference(contents) ? read(Reference.parse(contents)) : contents);
+		if (plain == contents)
+			return false;
+		return replace(file, attributes, plain);
+	}
+
+
+	/**
+	 * Replaces every savefile in the profiles of the game with a reference. Savefiles that are deleted, moved or changed while this runs are skipped.
+	 *
+	 * @return the number of savefiles that were replaced
+	 * @throws IOException
+	 */
+	public int deduplicateAll() throws IOException
+	{
+		int count = 0;
+		for (File file : listSavefiles())
+		{
+			try
+			{
+				if (deduplicate(file))
+					count++;
+			}
+			catch (NoSuchFileException e)
+			{
+				// deleted or moved in the save list since the savefiles were listed
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Replaces every reference and compressed savefile in the profiles of the game with the uncompressed contents of the save. Savefiles that are
+	 * deleted, moved or changed while this runs are skipped.
+	 *
+	 * @return the number of savefiles that were replaced
+	 * @throws IOException
+	 */
+	public int exportAll() throws IOException
+	{
+		int count = 0;
+		for (File file : listSavefiles())
+		{
+			try
+			{
+				if (export(file))
+					count++;
+			}
+			catch (NoSuchFileException e)
+			{
+				// deleted or moved in the save list since the savefiles were listed
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Compresses every savefile in the profiles of the game, or the blob it refers to. Savefiles that are deleted, moved or changed while this runs
+	 * are skipped.
+	 *
+	 * @return the number of savefiles and blobs that were compressed
+	 * @throws IOException
+	 */
+	public int compressAll() throws IOException
+	{
+		int count = 0;
+		for (File file : listSavefiles())
+		{
+			try
+			{
+				if (SaveCompression.compressFile(file))
+					count++;
+			}
+			catch (NoSuchFileException e)
+			{
+				// deleted or moved in the save list since the savefiles were listed
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Deletes all blobs that are not referenced by any savefile in the profiles of the game. Blobs that were stored recently are kept.
+	 *
+	 * @return the number of deleted blobs
+	 * @throws IOException
+	 */
+	public int collectGarbage() throws IOException
+	{
+		if (!directory.isDirectory())
+			return 0;
+		Set<String> referenced = new HashSet<>();
+		for (File file : listSavefiles())
+		{
+			if (file.length() > MAX_REFERENCE_SIZE)
+				continue;
+			byte[] contents = Files.readAllBytes(file.toPath());
+			if (isReference(contents))
+				referenced.add(Reference.parse(contents).hash);
+		}
+
+		long cutoff = System.currentTimeMillis() - GARBAGE_GRACE_PERIOD;
+		int[] deleted = { 0 };
+		Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>()
+		{
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException
+			{
+				String name = file.getFileName().toString();
+				if (!referenced.contains(name) && attributes.lastModifiedTime().toMillis() < cutoff)
+				{
+					Files.delete(file);
+					deleted[0]++;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		return deleted[0];
+	}
+
+
+	/**
+	 * Stores the given contents as a blob, unless a blob with the same contents already exists.
+	 *
+	 * @param contents the uncompressed contents
+	 * @param data     the data to write to the blob, either the contents themselves or their compressed form
+	 * @return the reference to the blob
+	 * @throws IOException
+	 */
+	private Reference put(byte[] contents, byte[] data) throws IOException
+	{
+		Reference reference = new Reference(hash(contents), contents.length);
+		File blob = getBlob(reference.hash);
+		if (blob.exists())
+		{
+			// restarts the grace period, so a garbage collection running concurrently doesn't delete it before the reference is written
+			blob.setLastModified(System.currentTimeMillis());
+			return reference;
+		}
+		blob.getParentFile().mkdirs();
+		File tempFile = new File(blob.getPath() + ".tmp");
+		Files.write(tempFile.toPath(), data);
+		Files.move(tempFile.toPath(), blob.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return reference;
+	}
+
+
+	/**
+	 * Reads the uncompressed contents of the blob of the given reference.
+	 */
+	private byte[] read(Reference reference) throws IOException
+	{
+		File blob = getBlob(reference.hash);
+		if (!blob.exists())
+			throw new IOException("Missing blob " + reference.hash + " in " + directory.getPath());
+		byte[] contents = SaveCompression.decode(Files.readAllBytes(blob.toPath()));
+		if (contents.length != reference.size)
+			throw new IOException("Damaged blob " + reference.hash + " in " + directory.getPath());
+		return contents;
+	}
+
+
+	/**
+	 * Returns the lock that is held while savefiles are replaced. The save list holds it while it deletes, renames or moves savefiles.
+	 *
+	 * @return the lock
+	 */
+	public static Object getFileLock()
+	{
+		return FILE_LOCK;
+	}
+
+
+	/**
+	 * Replaces the contents of the given file through a temporary file, keeping its modification time and writable state. The file is only
+	 * replaced if it is unchanged since the given attributes were read before reading its contents, so a file that was deleted, renamed or written
+	 * again in the meantime is left alone.
+	 *
+	 * @param file       the file
+	 * @param attributes the attributes of the file, read before its contents were read
+	 * @param contents   the new contents
+	 * @return whether the file was replaced
+	 * @throws IOException if the temporary file could not be written or moved
+	 */
+	static boolean replace(File file, BasicFileAttributes attributes, byte[] contents) throws IOException
+	{
+		// a temporary name the organizer ignores, so it never shows up as a save, and that replacements on other threads don't share
+		File tempFile = new File(file.getParentFile(), ".sso-" + file.getName() + "-" + Thread.currentThread().getId() + ".tmp");
+		boolean moved = false;
+		try
+		{
+			Files.write(tempFile.toPath(), contents);
+			synchronized (FILE_LOCK)
+			{
+				if (!isUnchanged(file, attributes))
+					return false;
+				boolean writable = file.canWrite();
+				if (!writable)
+					file.setWritable(true);
+				try
+				{
+					Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					moved = true;
+					file.setLastModified(attributes.lastModifiedTime().toMillis());
+				}
+				finally
+				{
+					if (!writable)
+						file.setWritable(false);
+				}
+			}
+		}
+		finally
+		{
+			if (!moved)
+				tempFile.delete();
+		}
+		return true;
+	}
+
+
+	/**
+	 * Returns whether the given file still exists and has the given attributes.
+	 */
+	private static boolean isUnchanged(File file, BasicFileAttributes attributes)
+	{
+		try
+		{
+			BasicFileAttributes current = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			return current.size() == attributes.size() && current.lastModifiedTime().equals(attributes.lastModifiedTime())
+					&& current.creationTime().equals(attributes.creationTime()) && Objects.equals(current.fileKey(), attributes.fileKey());
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+
+	/**
+	 * Returns all savefiles in the profiles of the game.
+	 */
+	private Set<File> listSavefiles() throws IOException
+	{
+		Set<File> files = new HashSet<>();
+		Path root = gameDirectory.toPath();
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>()
+		{
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes)
+			{
+				return OrganizerManager.isOrganizerFile(dir.toFile()) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+			}
+
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+			{
+				// files directly in the game directory are no saves, only the ones in its profiles
+				if (attributes.isRegularFile() && !file.getParent().equals(root) && !OrganizerManager.isOrganizerFile(file.toFile()))
+					files.add(file.toFile());
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		return files;
+	}
+
+
+	private File getBlob(String hash)
+	{
+		return new File(new File(directory, hash.substring(0, 2)), hash);
+	}
+
+
+	private static String hash(byte[] contents)
+	{
+		try
+		{
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(contents);
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				builder.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	/**
+	 * The contents of a reference file: the hash of the blob and the size of the save.
+	 */
+	private static class Reference
+	{
+
+		private final String hash;
+		private final long size;
+
+
+		private Reference(String hash, long size)
+		{
+			this.hash = hash;
+			this.size = size;
+		}
+
+
+		private static Reference parse(byte[] contents) throws IOException
+		{
+			String[] lines = new String(contents, StandardCharsets.US_ASCII).split("\n");
+			if (lines.length < 3 || !lines[0].equals(REFERENCE_HEADER) || !lines[1].matches("[0-9a-f]{64}"))
+				throw new IOException("Invalid save reference");
+			try
+			{
+				return new Reference(lines[1], Long.parseLong(lines[2]));
+			}
+			catch (NumberFormatException e)
+			{
+				throw new IOException("Invalid save reference", e);
+			}
+		}
+
+
+		private byte[] toBytes()
+		{
+			return (REFERENCE_HEADER + "\n" + hash + "\n" + size + "\n").getBytes(StandardCharsets.US_ASCII);
+		}
+
+	}
+
+}
@@ -0,0 +1,251 @@
+package com.soulsspeedruns.organizer.io;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * UsageIndex.
+ * <p>
+ * Remembers how often and when the saves of a profile were loaded. Saves are identified by their path relative to the profile directory, using
+ * '/' as separator. The index is stored in the profile directory as a log that every load and move is appended to, and is compacted into one
+ * record per save when the organizer is closed.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class UsageIndex
+{
+
+	/**
+	 * Name of the index file in the profile directory.
+	 */
+	public static final String FILE_NAME = ".sso-usage";
+
+	private static final int RECORD_LOAD = 1;
+	private static final int RECORD_MOVE = 2;
+	private static final int RECORD_USAGE = 3;
+
+	private final File file;
+	private final Map<String, Usage> usages = new HashMap<>();
+	private boolean changed;
+
+
+	/**
+	 * Creates a new UsageIndex for the given profile directory and reads the stored index, if any.
+	 *
+	 * @param profileDirectory the profile directory
+	 */
+	public UsageIndex(File profileDirectory)
+	{
+		file = new File(profileDirectory, FILE_NAME);
+		read();
+	}
+
+
+	/**
+	 * Returns the usage of the save with the given path. The returned object is updated as the save is loaded or moved.
+	 *
+	 * @param path the path relative to the profile directory
+	 * @return the usage, with a load count of 0 if the save was never loaded
+	 */
+	public synchronized Usage getUsage(String path)
+	{
+		return usages.computeIfAbsent(path, key -> new Usage());
+	}
+
+
+	/**
+	 * Records a load of the save with the given path.
+	 *
+	 * @param path the path relative to the profile directory
+	 * @param time the time of the load in milliseconds
+	 */
+	public synchronized void recordLoad(String path, long time)
+	{
+		Usage usage = getUsage(path);
+		usage.loadCount++;
+		usage.lastLoaded = time;
+		append(RECORD_LOAD, path, null, time);
+	}
+
+
+	/**
+	 * Moves the usage of the save or folder with the given old path, including everything below it, to the new path.
+	 *
+	 * @param oldPath the old path relative to the profile directory
+	 * @param newPath the new path relative to the profile directory
+	 */
+	public synchronized void move(String oldPath, String newPath)
+	{
+		if (applyMove(oldPath, newPath))
+			append(RECORD_MOVE, oldPath, newPath, 0);
+	}
+
+
+	/**
+	 * Rewrites the index with a single record per loaded save and drops saves that don't exist any longer. Does nothing if the index didn't
+	 * change since it was read.
+	 *
+	 * @throws IOException if the index could not be written
+	 */
+	public synchronized void compact() throws IOException
+	{
+		if (!changed || !file.getParentFile().isDirectory())
+			return;
+		File tempFile = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+		{
+			for (Map.Entry<String, Usage> entry : usages.entrySet())
+			{
+				Usage usage = entry.getValue();
+				if (usage.loadCount == 0 || !new File(file.getParentFile(), entry.getKey()).exists())
+					continue;
+				out.writeByte(RECORD_USAGE);
+				out.writeUTF(entry.getKey());
+				out.writeInt(usage.loadCount);
+				out.writeLong(usage.lastLoaded);
+			}
+		}
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		changed = false;
+	}
+
+
+	/**
+	 * Moves the usages below the old path to the new path.
+	 *
+	 * @param oldPath the old path
+	 * @param newPath the new path
+	 * @return whether anything was moved
+	 */
+	private boolean applyMove(String oldPath, String newPath)
+	{
+		String oldPrefix = oldPath + "/";
+		List<String> moved = new ArrayList<>();
+		for (String path : usages.keySet())
+		{
+			if (path.equals(oldPath) || path.startsWith(oldPrefix))
+				moved.add(path);
+		}
+		for (String path : moved)
+			usages.put(newPath + path.substring(oldPath.length()), usages.remove(path));
+		return !moved.isEmpty();
+	}
+
+
+	/**
+	 * Appends a record to the index file. Failing to do so only loses the usage of this load, so errors are ignored.
+	 */
+	private void append(int type, String path, String newPath, long time)
+	{
+		changed = true;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true))))
+		{
+			out.writeByte(type);
+			out.writeUTF(path);
+			if (type == RECORD_MOVE)
+				out.writeUTF(newPath);
+			else
+				out.writeLong(time);
+		}
+		catch (IOException e)
+		{
+			// the usage is still known until the organizer is closed, and written when the index is compacted
+		}
+	}
+
+
+	/**
+	 * Reads the records of the index file. A record that was cut off, e.g. because the organizer was killed while appending it, ends the log.
+	 */
+	private void read()
+	{
+		if (!file.exists())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			while (true)
+			{
+				int type = in.read();
+				if (type == -1)
+					break;
+				String path = in.readUTF();
+				if (type == RECORD_LOAD)
+				{
+					Usage usage = getUsage(path);
+					usage.loadCount++;
+					usage.lastLoaded = in.readLong();
+					changed = true;
+				}
+				else if (type == RECORD_MOVE)
+				{
+					applyMove(path, in.readUTF());
+					changed = true;
+				}
+				else if (type == RECORD_USAGE)
+				{
+					Usage usage = getUsage(path);
+					usage.loadCount = in.readInt();
+					usage.lastLoaded = in.readLong();
+				}
+				else
+					break;
+			}
+		}
+		catch (EOFException e)
+		{
+			changed = true;
+		}
+		catch (IOException e)
+		{
+			// start over with an empty index, the old one is replaced when compacting
+			changed = true;
+		}
+	}
+
+
+	/**
+	 * How often and when a save was loaded.
+	 */
+	public static class Usage
+	{
+
+		private volatile int loadCount;
+		private volatile long lastLoaded;
+
+
+		/**
+		 * @return how often the save was loaded
+		 */
+		public int getLoadCount()
+		{
+			return loadCount;
+		}
+
+
+		/**
+		 * @return the time of the last load in milliseconds, or 0 if the save was never loaded
+		 */
+		public long getLastLoaded()
+		{
+			return lastLoaded;
+		}
+
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.soulsspeedruns.organizer.listeners;
+
+
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.io.CaptureHistory.Capture;
+
+
+/**
+ * Capture Listener.
+ * <p>
+ * Provides a method to listen for states of the gamefile that were captured into the history of a profile. Events are fired on the event dispatch
+ * thread.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public interface CaptureListener
+{
+
+	/**
+	 * Called when a new state of the gamefile was added to the capture history of a profile.
+	 *
+	 * @param profile the profile the state was captured for
+	 * @param capture the new capture
+	 */
+	public void gameFileCaptured(Profile profile, Capture capture);
+
+}
@@ -0,0 +1,52 @@
+package com.soulsspeedruns.organizer.listeners;
+
+
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.savelist.SaveListEntry;
+
+
+/**
+ * File System Listener.
+ * <p>
+ * Provides methods to listen for changes to the profile directories that were made outside of the organizer. Events are fired on the event
+ * dispatch thread after the tree of the profile was already updated.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public interface FileSystemListener
+{
+
+	/**
+	 * Called when a file or directory was created outside of the organizer and added to the tree of its profile.
+	 *
+	 * @param entry the entry that was added
+	 */
+	public void entryAddedExternally(SaveListEntry entry);
+
+
+	/**
+	 * Called when a file or directory was deleted outside of the organizer and removed from the tree of its profile.
+	 *
+	 * @param entry the entry that was removed
+	 */
+	public void entryRemovedExternally(SaveListEntry entry);
+
+
+	/**
+	 * Called when the file of an entry was deleted or its read-only state was switched outside of the organizer, while the entry is kept in the
+	 * tree. The new state is available through {@link SaveListEntry#exists()} and {@link SaveListEntry#isWritable()}.
+	 *
+	 * @param entry the entry that changed
+	 */
+	public void entryChangedExternally(SaveListEntry entry);
+
+
+	/**
+	 * Called when changes to the given profile were missed, e.g. because too many happened at once. Its tree has to be refreshed completely.
+	 *
+	 * @param profile the profile that is out of sync
+	 */
+	public void profileOutOfSync(Profile profile);
+
+}
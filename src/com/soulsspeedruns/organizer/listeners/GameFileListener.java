@@ -0,0 +1,26 @@
+package com.soulsspeedruns.organizer.listeners;
+
+
+import com.soulsspeedruns.organizer.io.GameFileState;
+
+
+/**
+ * Game File Listener.
+ * <p>
+ * Provides a method to listen for changes to the gamefile of the selected game, no matter whether they were made by the organizer, the game or
+ * another tool. Events are fired on the event dispatch thread.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public interface GameFileListener
+{
+
+	/**
+	 * Called when the state of the gamefile changed, or another game with another gamefile was selected.
+	 *
+	 * @param state the new state of the gamefile
+	 */
+	public void gameFileChanged(GameFileState state);
+
+}
@@ -15,6 +15,7 @@ import javax.swing.SwingUtilities;
 import com.soulsspeedruns.organizer.listeners.SettingsListener;
 import com.soulsspeedruns.organizer.managers.IconsAndFontsManager;
 import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
 import com.soulsspeedruns.organizer.managers.SettingsManager;
 
 
@@ -120,6 +121,7 @@ public class OrganizerWindow extends JFrame implements SettingsListener
 					SettingsManager.setStoredWindowSize(new Dimension(getSize()));
 				SettingsManager.setStoredMaximizedWindowState(state);
 				SettingsManager.getKeyboardHook().unregisterHook();
+				SavesManager.shutdown();
 				e.getWindow().dispose();
 				System.exit(0);
 			}
@@ -1,13 +1,6 @@
 package com.soulsspeedruns.organizer.main.config;
 
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
-
 import com.soulsspeedruns.organizer.savelist.SaveListEntry;
 
 
@@ -28,7 +21,7 @@ public enum SortingCategory
 		@Override
 		public int compare(SaveListEntry s1, SaveListEntry s2)
 		{
-			return s1.getFile().getName().compareToIgnoreCase(s2.getName());
+			return s1.getSortKey().getFoldedName().compareTo(s2.getSortKey().getFoldedName());
 		}
 	},
 	DATE("Created")
@@ -37,22 +30,7 @@ public enum SortingCategory
 		@Override
 		public int compare(SaveListEntry s1, SaveListEntry s2)
 		{
-			try
-			{
-				Path path = Paths.get(s1.getFile().getPath());
-				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
-				FileTime s1CreationTime = attributes.creationTime();
-
-				path = Paths.get(s2.getFile().getPath());
-				attributes = Files.readAttributes(path, BasicFileAttributes.class);
-				FileTime s2CreationTime = attributes.creationTime();
-				return s2CreationTime.compareTo(s1CreationTime);
-			}
-			catch (IOException e)
-			{
-				e.printStackTrace();
-			}
-			return 0;
+			return Long.compare(s2.getSortKey().getCreationTime(), s1.getSortKey().getCreationTime());
 		}
 	},
 	READ_ONLY("Read Only")
@@ -61,10 +39,48 @@ public enum SortingCategory
 		@Override
 		public int compare(SaveListEntry s1, SaveListEntry s2)
 		{
-			boolean s1ReadOnly = !s1.getFile().canWrite();
-			boolean s2ReadOnly = !s2.getFile().canWrite();
+			boolean s1ReadOnly = !s1.getSortKey().isWritable();
+			boolean s2ReadOnly = !s2.getSortKey().isWritable();
 			return s1ReadOnly ? (s2ReadOnly ? 0 : -1) : (s2ReadOnly ? 1 : 0);
 		}
+	},
+	LAST_MODIFIED("Modified")
+	{
+
+		@Override
+		public int compare(SaveListEntry s1, SaveListEntry s2)
+		{
+			return Long.compare(s2.getSortKey().getLastModifiedTime(), s1.getSortKey().getLastModifiedTime());
+		}
+	},
+	FILE_SIZE("Size")
+	{
+
+		@Override
+		public int compare(SaveListEntry s1, SaveListEntry s2)
+		{
+			return Long.compare(s2.getSortKey().getSize(), s1.getSortKey().getSize());
+		}
+	},
+	LAST_LOADED("Last Loaded")
+	{
+
+		@Override
+		public int compare(SaveListEntry s1, SaveListEntry s2)
+		{
+			int result = Long.compare(s2.getUsage().getLastLoaded(), s1.getUsage().getLastLoaded());
+			return result != 0 ? result : ALPHABET.compare(s1, s2);
+		}
+	},
+	LOAD_COUNT("Most Loaded")
+	{
+
+		@Override
+		public int compare(SaveListEntry s1, SaveListEntry s2)
+		{
+			int result = Integer.compare(s2.getUsage().getLoadCount(), s1.getUsage().getLoadCount());
+			return result != 0 ? result : ALPHABET.compare(s1, s2);
+		}
 	};
 
 	private String caption;
@@ -92,6 +108,13 @@ public enum SortingCategory
 	}
 
 
+	/**
+	 * Compares the given entries by their sort keys. Doesn't access the file system unless a sort key has to be read first.
+	 * 
+	 * @param s1 the first entry
+	 * @param s2 the second entry
+	 * @return the comparison result
+	 */
 	public abstract int compare(SaveListEntry s1, SaveListEntry s2);
 
 }
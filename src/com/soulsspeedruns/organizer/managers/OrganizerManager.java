@@ -56,6 +56,7 @@ public class OrganizerManager
 			SettingsManager.initialize();
 			GamesManager.initialize();
 			SavesManager.initialize();
+			SavesManager.startWatchingProfiles();
 			initialize();
 		}
 		catch (IOException e)
@@ -204,6 +205,19 @@ public class OrganizerManager
 	}
 
 
+	/**
+	 * Returns whether the given file is one that the organizer stores its own data in, e.g. the usage index of a profile. These files are not
+	 * shown as saves, folders or profiles.
+	 * 
+	 * @param file the file to check
+	 * @return whether the file belongs to the organizer
+	 */
+	public static boolean isOrganizerFile(File file)
+	{
+		return file.getName().startsWith(".sso");
+	}
+
+
 	/**
 	 * Copies the source directory and its contents into the destination directory.
 	 * 
@@ -9,11 +9,37 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import com.soulsspeedruns.organizer.games.Game;
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.io.CachedSave;
+import com.soulsspeedruns.organizer.io.CaptureEngine;
+import com.soulsspeedruns.organizer.io.CaptureHistory.Capture;
+import com.soulsspeedruns.organizer.io.GameFileMonitor;
+import com.soulsspeedruns.organizer.io.GameFileState;
+import com.soulsspeedruns.organizer.io.LatencyMetrics;
+import com.soulsspeedruns.organizer.io.LatencyMetrics.Phase;
+import com.soulsspeedruns.organizer.io.LoadExecutor;
+import com.soulsspeedruns.organizer.io.LoadMetrics;
+import com.soulsspeedruns.organizer.io.SaveCache;
+import com.soulsspeedruns.organizer.io.SaveCompression;
+import com.soulsspeedruns.organizer.io.SaveLoader;
+import com.soulsspeedruns.organizer.io.SavePrefetcher;
+import com.soulsspeedruns.organizer.io.SaveStore;
+import com.soulsspeedruns.organizer.io.UsageIndex;
+import com.soulsspeedruns.organizer.listeners.FileSystemListener;
+import com.soulsspeedruns.organizer.listeners.GameFileListener;
 import com.soulsspeedruns.organizer.listeners.NavigationListener;
 import com.soulsspeedruns.organizer.listeners.SaveListener;
 import com.soulsspeedruns.organizer.listeners.SearchListener;
@@ -21,6 +47,7 @@ import com.soulsspeedruns.organizer.listeners.SortingListener;
 import com.soulsspeedruns.organizer.main.config.SortingCategory;
 import com.soulsspeedruns.organizer.messages.AbstractMessage;
 import com.soulsspeedruns.organizer.savelist.Folder;
+import com.soulsspeedruns.organizer.savelist.ProfileWatcher;
 import com.soulsspeedruns.organizer.savelist.Save;
 import com.soulsspeedruns.organizer.savelist.SaveListEntry;
 
@@ -40,8 +67,24 @@ public class SavesManager
 	private static List<SearchListener> searchListeners;
 	private static List<SortingListener> sortingListeners;
 	private static List<NavigationListener> navigationListeners;
-
-	private static SaveListEntry selectedEntry;
+	private static List<FileSystemListener> fileSystemListeners;
+	private static List<GameFileListener> gameFileListeners;
+
+	// read by the keyboard hook thread
+	private static volatile SaveListEntry selectedEntry;
+
+	private static SaveCache saveCache;
+	private static SavePrefetcher savePrefetcher;
+	private static SaveLoader saveLoader;
+	private static LoadMetrics loadMetrics;
+	private static LoadExecutor loadExecutor;
+	private static LatencyMetrics latencyMetrics;
+	private static ProfileWatcher profileWatcher;
+	private static Map<File, UsageIndex> usageIndexes;
+	private static ExecutorService saveCompressor;
+	private static ThreadPoolExecutor saveStager;
+	private static GameFileMonitor gameFileMonitor;
+	private static CaptureEngine captureEngine;
 
 
 	protected static void initialize()
@@ -50,6 +93,71 @@ public class SavesManager
 		searchListeners = new ArrayList<>();
 		sortingListeners = new ArrayList<>();
 		navigationListeners = new ArrayList<>();
+		fileSystemListeners = new ArrayList<>();
+		gameFileListeners = new ArrayList<>();
+
+		saveCache = new SaveCache(SettingsManager.getSaveCacheSize() * 1024L * 1024L);
+		savePrefetcher = new SavePrefetcher(saveCache, SettingsManager.getPrefetchDepth(), SettingsManager.getPrefetchBudget() * 1024L * 1024L);
+		loadMetrics = new LoadMetrics();
+		latencyMetrics = new LatencyMetrics();
+		saveLoader = new SaveLoader(loadMetrics, latencyMetrics, SettingsManager.isSkipIdenticalLoadsEnabled(), SettingsManager.isDeltaLoadsEnabled(),
+				SettingsManager.isAtomicLoadsEnabled());
+		loadExecutor = new LoadExecutor(SavesManager::performLoad);
+
+		profileWatcher = new ProfileWatcher();
+		gameFileMonitor = new GameFileMonitor();
+		captureEngine = new CaptureEngine(SettingsManager.getCaptureHistorySize(), SettingsManager.getCaptureHistoryBudget() * 1024L * 1024L);
+		usageIndexes = new HashMap<>();
+		saveCompressor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Save Compressor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// only the most recent selection is worth staging
+		saveStager = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+			Thread thread = new Thread(runnable, "Save Stager");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		}, new ThreadPoolExecutor.DiscardOldestPolicy());
+
+		addSaveListener(savePrefetcher);
+		addGameFileListener(captureEngine);
+	}
+
+
+	/**
+	 * Writes pending state to disk before the organizer is closed.
+	 */
+	public static void shutdown()
+	{
+		saveLoader.discardStaged();
+		synchronized (usageIndexes)
+		{
+			for (UsageIndex index : usageIndexes.values())
+			{
+				try
+				{
+					index.compact();
+				}
+				catch (IOException e)
+				{
+					// the appended log is still complete, it's simply compacted next time
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Starts watching the profile directory of the selected game for changes made outside of the organizer, and the gamefile for changes and
+	 * states to capture if capturing is enabled.
+	 */
+	protected static void startWatchingProfiles()
+	{
+		profileWatcher.start();
+		gameFileMonitor.start();
+		captureEngine.setEnabled(SettingsManager.isCaptureEnabled());
 	}
 
 
@@ -62,24 +170,63 @@ public class SavesManager
 	 */
 	public static Save importSavefile(Folder parentFolder)
 	{
-		SaveListEntry parent = getSelectedEntry();
-		if (parent instanceof Save)
-			parent = parent.getParent();
-		if (parentFolder != null)
-			parent = parentFolder;
-		if (parent == null)
-			parent = GamesManager.getSelectedProfile().getRoot();
-		File saveFile = createFileForNewSave((Folder) parent);
+		long start = System.nanoTime();
+		Folder parent = getImportParent(parentFolder);
+		File saveFile = createFileForNewSave(parent);
 		if (saveFile == null)
 			return null;
-		Save newSave = new Save((Folder) parent, saveFile);
+		Save newSave = new Save(parent, saveFile);
+		parent.addChild(newSave);
+		compressInBackground(newSave);
+		latencyMetrics.recordSince(Phase.IMPORT, start);
+		AbstractMessage.display(AbstractMessage.SUCCESSFUL_IMPORT);
+		fireEntryCreatedEvent(newSave);
+		return newSave;
+	}
+
+
+	/**
+	 * Imports the given captured state of the gamefile as a new savefile. The parent is determined based on the selection in the save list.
+	 * 
+	 * @param capture the capture to import
+	 * @return the imported save
+	 */
+	public static Save promoteCapture(Capture capture)
+	{
+		Folder parent = getImportParent(null);
+		File saveFile = createFileForNewSave(parent, capture.getFile());
+		// the capture might have been evicted from the history in the meantime
+		if (!saveFile.exists())
+			return null;
+		Save newSave = new Save(parent, saveFile);
 		parent.addChild(newSave);
+		compressInBackground(newSave);
 		AbstractMessage.display(AbstractMessage.SUCCESSFUL_IMPORT);
 		fireEntryCreatedEvent(newSave);
 		return newSave;
 	}
 
 
+	/**
+	 * Returns the folder to import a savefile into. If a folder is given, it is used. Otherwise the folder is determined based on the selection in
+	 * the save list.
+	 * 
+	 * @param parentFolder the folder to import the savefile into, or null
+	 * @return the folder
+	 */
+	private static Folder getImportParent(Folder parentFolder)
+	{
+		if (parentFolder != null)
+			return parentFolder;
+		SaveListEntry parent = getSelectedEntry();
+		if (parent instanceof Save)
+			parent = parent.getParent();
+		if (parent == null)
+			parent = GamesManager.getSelectedProfile().getRoot();
+		return (Folder) parent;
+	}
+
+
 	/**
 	 * Imports a new savefile and replaces an existing one in the list.
 	 * 
@@ -87,15 +234,23 @@ public class SavesManager
 	 */
 	public static void importAndReplaceSavefile(Save saveToReplace)
 	{
+		long start = System.nanoTime();
 		Folder parent = saveToReplace.getParent();
 		String name = saveToReplace.getName();
-		saveToReplace.delete();
-		File saveFile = createFileForNewSave(parent);
+		File saveFile;
+		// compressing the old savefile in the background must not overwrite the new one under the same name
+		synchronized (SaveStore.getFileLock())
+		{
+			saveToReplace.delete();
+			saveFile = createFileForNewSave(parent);
+		}
 		if (saveFile == null)
 			return;
 		Save newSave = new Save(parent, saveFile);
 		newSave.rename(name);
 		parent.addChild(newSave);
+		compressInBackground(newSave);
+		latencyMetrics.recordSince(Phase.REPLACE, start);
 		AbstractMessage.display(AbstractMessage.SUCCESSFUL_REPLACE);
 		fireEntryCreatedEvent(newSave);
 	}
@@ -137,6 +292,20 @@ public class SavesManager
 					JOptionPane.WARNING_MESSAGE);
 			return null;
 		}
+		return createFileForNewSave(parent, GamesManager.getSelectedGame().getSaveFileLocation());
+	}
+
+
+	/**
+	 * Creates the File object and the actual file in the file system for a new save in the given parent folder, with the contents of the given
+	 * source file.
+	 * 
+	 * @param parent the parent of the new save
+	 * @param source the file to copy the contents from
+	 * @return the file object
+	 */
+	private static File createFileForNewSave(Folder parent, File source)
+	{
 		String parentPath = parent != null ? parent.getFile().getPath() : GamesManager.getSelectedProfile().getRoot().getFile().getPath();
 		String name = GamesManager.getSelectedGame().getSaveName();
 		File newFile = new File(parentPath + File.separator + name);
@@ -144,7 +313,13 @@ public class SavesManager
 			newFile = new File(parentPath + File.separator + name + "_" + i);
 		try
 		{
-			Files.copy(GamesManager.getSelectedGame().getSaveFileLocation().toPath(), newFile.toPath(), StandardCopyOption.COPY_ATTRIBUTES);
+			if (SettingsManager.isDeduplicationEnabled())
+			{
+				new SaveStore(GamesManager.getSelectedGame().getDirectory()).store(Files.readAllBytes(source.toPath()), newFile);
+				newFile.setLastModified(source.lastModified());
+			}
+			else
+				Files.copy(source.toPath(), newFile.toPath(), StandardCopyOption.COPY_ATTRIBUTES);
 		}
 		catch (IOException e)
 		{
@@ -155,6 +330,30 @@ public class SavesManager
 	}
 
 
+	/**
+	 * Compresses the file of the given newly imported save on a separate thread if compression is enabled, so importing doesn't have to wait for
+	 * it. The file is left alone if it was changed, renamed or deleted in the meantime.
+	 * 
+	 * @param save the imported save
+	 */
+	private static void compressInBackground(Save save)
+	{
+		if (!SettingsManager.isCompressionEnabled())
+			return;
+		File file = save.getFile();
+		saveCompressor.execute(() -> {
+			try
+			{
+				SaveCompression.compressFile(file);
+			}
+			catch (IOException e)
+			{
+				// the save couldn't be read or written, it simply stays uncompressed
+			}
+		});
+	}
+
+
 	/**
 	 * Copy entry into destination Folder object.
 	 * 
@@ -165,6 +364,7 @@ public class SavesManager
 	 */
 	public static void copyEntry(SaveListEntry entry, Folder dest, boolean fireCreatedEvent) throws IOException
 	{
+		long start = System.nanoTime();
 		File src = entry.getFile();
 
 		String parentPath = dest.getFile().getPath();
@@ -188,6 +388,7 @@ public class SavesManager
 		}
 
 		dest.addChild(newEntry);
+		latencyMetrics.recordSince(Phase.COPY, start);
 
 		if (fireCreatedEvent)
 			fireEntryCreatedEvent(newEntry);
@@ -196,7 +397,8 @@ public class SavesManager
 
 
 	/**
-	 * Loads the given save and overwrites the current gamefile.
+	 * Requests the given save to be loaded over the current gamefile. The load happens on a separate thread and this method returns immediately.
+	 * If another load is still waiting to be performed, it is replaced by this one.
 	 * 
 	 * @param save the save to load
 	 */
@@ -204,6 +406,39 @@ public class SavesManager
 	{
 		if (save == null)
 			return;
+		loadExecutor.submit(save);
+	}
+
+
+	/**
+	 * Requests the given save to be loaded over the current gamefile in response to a hotkey. Same as {@link #loadSave(Save)}, but also records
+	 * how long it took from receiving the key event until the load was requested.
+	 * 
+	 * @param save         the save to load
+	 * @param keyEventTime the time the key event was received at, as returned by {@link System#nanoTime()}
+	 */
+	public static void loadSave(Save save, long keyEventTime)
+	{
+		if (save == null)
+			return;
+		latencyMetrics.recordSince(Phase.LOAD_HOTKEY_RECEIPT, keyEventTime);
+		loadExecutor.submit(save);
+	}
+
+
+	/**
+	 * Loads the given save and overwrites the current gamefile. The contents of the save are taken from the save cache if possible, so that only the
+	 * gamefile has to be touched on disk. If identical loads are skipped and the gamefile still holds the save, it is not written at all. With delta
+	 * loads enabled only the parts of the gamefile that differ from the save are rewritten.
+	 * <p>
+	 * Called on the loading thread of the LoadExecutor.
+	 * 
+	 * @param request the requested load
+	 */
+	private static void performLoad(LoadExecutor.Request request)
+	{
+		long start = latencyMetrics.recordSince(Phase.LOAD_QUEUE_WAIT, request.getRequestTime());
+		Save save = request.getSave();
 		fireSaveLoadStartedEvent(save);
 		Game game = GamesManager.getSelectedGame();
 		File gameFile = game.getSaveFileLocation();
@@ -211,11 +446,20 @@ public class SavesManager
 		boolean canWriteSaveFile = saveFile.canWrite();
 		try
 		{
-			gameFile.setWritable(true);
-			saveFile.setWritable(true);
-			Files.copy(saveFile.toPath(), gameFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-			gameFile.setWritable(canWriteSaveFile);
-			saveFile.setWritable(canWriteSaveFile);
+			CachedSave content = saveCache.getIfCached(saveFile);
+			boolean cacheHit = content != null;
+			if (!cacheHit)
+				content = saveCache.get(saveFile);
+			latencyMetrics.recordSince(Phase.LOAD_READ, start);
+			loadMetrics.recordLoad(cacheHit, cacheHit && content.isPrefetched());
+			content.setPrefetched(false);
+			if (captureEngine.isEnabled())
+				captureEngine.gameFileWritten(content);
+			saveLoader.load(content, gameFile, canWriteSaveFile, gameFileMonitor.getState());
+			gameFileMonitor.gameFileWritten(content);
+			// the staged file was used up by the load, so loading the same save again can use a new one
+			stageSelectedSave();
+			getUsageIndex(save.getRoot().getFile()).recordLoad(save.getRelativePath(), System.currentTimeMillis());
 			AbstractMessage.display(AbstractMessage.SUCCESSFUL_LOAD);
 		}
 		catch (Exception e)
@@ -224,6 +468,7 @@ public class SavesManager
 //					JOptionPane.ERROR_MESSAGE);
 			AbstractMessage.display(AbstractMessage.FAILED_LOAD);
 		}
+		latencyMetrics.recordSince(Phase.LOAD_TOTAL, request.getRequestTime());
 		fireSaveLoadFinishedEvent(save);
 	}
 
@@ -233,11 +478,11 @@ public class SavesManager
 	 */
 	public static void switchCurrentGameFileWritableState()
 	{
-		if (!GamesManager.getSelectedGame().supportsReadOnly())
+		GameFileState state = gameFileMonitor.getState();
+		if (!GamesManager.getSelectedGame().supportsReadOnly() || !state.exists())
 			return;
-		File gameFile = GamesManager.getSelectedGame().getSaveFileLocation();
-		gameFile.setWritable(!gameFile.canWrite());
-		fireGameFileWritableStateChangedEvent(gameFile.canWrite());
+		state.getFile().setWritable(!state.isWritable());
+		fireGameFileWritableStateChangedEvent(gameFileMonitor.refresh().isWritable());
 	}
 
 
@@ -250,6 +495,32 @@ public class SavesManager
 	{
 		selectedEntry = entry;
 		fireEntrySelectedEvent(entry);
+		stageSelectedSave();
+	}
+
+
+	/**
+	 * Stages the selected save for the next load on a separate thread, if atomic loads are enabled.
+	 */
+	private static void stageSelectedSave()
+	{
+		SaveListEntry entry = selectedEntry;
+		if (!(entry instanceof Save) || !SettingsManager.isAtomicLoadsEnabled())
+			return;
+		File saveFile = entry.getFile();
+		File gameFile = GamesManager.getSelectedGame().getSaveFileLocation();
+		if (gameFile == null)
+			return;
+		saveStager.execute(() -> {
+			try
+			{
+				saveLoader.stage(saveCache.get(saveFile), gameFile);
+			}
+			catch (IOException e)
+			{
+				// the load simply writes the temporary file itself
+			}
+		});
 	}
 
 
@@ -264,6 +535,98 @@ public class SavesManager
 	}
 
 
+	/**
+	 * Returns the monitor tracking the state of the gamefile of the selected game.
+	 * 
+	 * @return the gamefile monitor
+	 */
+	public static GameFileMonitor getGameFileMonitor()
+	{
+		return gameFileMonitor;
+	}
+
+
+	/**
+	 * Returns the engine capturing the states of the gamefile.
+	 * 
+	 * @return the capture engine
+	 */
+	public static CaptureEngine getCaptureEngine()
+	{
+		return captureEngine;
+	}
+
+
+	/**
+	 * Returns the cache holding the contents of recently loaded savestates.
+	 * 
+	 * @return the save cache
+	 */
+	public static SaveCache getSaveCache()
+	{
+		return saveCache;
+	}
+
+
+	/**
+	 * Returns the prefetcher that reads the selected save and its neighbours into the save cache.
+	 * 
+	 * @return the save prefetcher
+	 */
+	public static SavePrefetcher getSavePrefetcher()
+	{
+		return savePrefetcher;
+	}
+
+
+	/**
+	 * Returns the loader that writes savestates over the gamefile.
+	 * 
+	 * @return the save loader
+	 */
+	public static SaveLoader getSaveLoader()
+	{
+		return saveLoader;
+	}
+
+
+	/**
+	 * Returns the durations recorded for loading, importing, replacing and copying savestates.
+	 * 
+	 * @return the latency metrics
+	 */
+	public static LatencyMetrics getLatencyMetrics()
+	{
+		return latencyMetrics;
+	}
+
+
+	/**
+	 * Returns the metrics collected for savestate loads.
+	 * 
+	 * @return the load metrics
+	 */
+	public static LoadMetrics getLoadMetrics()
+	{
+		return loadMetrics;
+	}
+
+
+	/**
+	 * Returns the usage index of the given profile directory. Reads it the first time it is requested.
+	 * 
+	 * @param profileDirectory the profile directory
+	 * @return the usage index
+	 */
+	public static UsageIndex getUsageIndex(File profileDirectory)
+	{
+		synchronized (usageIndexes)
+		{
+			return usageIndexes.computeIfAbsent(profileDirectory, UsageIndex::new);
+		}
+	}
+
+
 	public static SortingCategory getSelectedSortingCategory()
 	{
 		String caption = SettingsManager.getStoredSelectedSortingCategoryName();
@@ -331,6 +694,30 @@ public class SavesManager
 	}
 
 
+	/**
+	 * Adds a file system listener to send events to.
+	 * 
+	 * @param listener the listener to add
+	 */
+	public static void addFileSystemListener(FileSystemListener listener)
+	{
+		if (listener != null)
+			fileSystemListeners.add(listener);
+	}
+
+
+	/**
+	 * Adds a gamefile listener to send events to.
+	 * 
+	 * @param listener the listener to add
+	 */
+	public static void addGameFileListener(GameFileListener listener)
+	{
+		if (listener != null)
+			gameFileListeners.add(listener);
+	}
+
+
 	/**
 	 * Fires an entryCreated event.
 	 * 
@@ -380,10 +767,14 @@ public class SavesManager
 	 */
 	public static void fireSaveLoadStartedEvent(Save save)
 	{
-		for (SaveListener listener : saveListeners)
-		{
-			listener.saveLoadStarted(save);
-		}
+		runOnEventDispatchThread(() -> {
+			long start = System.nanoTime();
+			for (SaveListener listener : saveListeners)
+			{
+				listener.saveLoadStarted(save);
+			}
+			latencyMetrics.recordSince(Phase.LOAD_STARTED_LISTENERS, start);
+		});
 	}
 
 
@@ -394,10 +785,14 @@ public class SavesManager
 	 */
 	public static void fireSaveLoadFinishedEvent(Save save)
 	{
-		for (SaveListener listener : saveListeners)
-		{
-			listener.saveLoadFinished(save);
-		}
+		runOnEventDispatchThread(() -> {
+			long start = System.nanoTime();
+			for (SaveListener listener : saveListeners)
+			{
+				listener.saveLoadFinished(save);
+			}
+			latencyMetrics.recordSince(Phase.LOAD_FINISHED_LISTENERS, start);
+		});
 	}
 
 
@@ -408,9 +803,25 @@ public class SavesManager
 	 */
 	public static void fireGameFileWritableStateChangedEvent(boolean writeable)
 	{
-		for (SaveListener listener : saveListeners)
+		runOnEventDispatchThread(() -> {
+			for (SaveListener listener : saveListeners)
+			{
+				listener.gameFileWritableStateChanged(writeable);
+			}
+		});
+	}
+
+
+	/**
+	 * Fires a gameFileChanged event. Called on the event dispatch thread by the gamefile monitor.
+	 * 
+	 * @param state the new state of the gamefile
+	 */
+	public static void fireGameFileChangedEvent(GameFileState state)
+	{
+		for (GameFileListener listener : gameFileListeners)
 		{
-			listener.gameFileWritableStateChanged(writeable);
+			listener.gameFileChanged(state);
 		}
 	}
 
@@ -448,10 +859,12 @@ public class SavesManager
 	 */
 	public static void fireNavigatedToPreviousEvent()
 	{
-		for (NavigationListener listener : navigationListeners)
-		{
-			listener.navigatedToPrevious();
-		}
+		runOnEventDispatchThread(() -> {
+			for (NavigationListener listener : navigationListeners)
+			{
+				listener.navigatedToPrevious();
+			}
+		});
 	}
 
 
@@ -460,10 +873,83 @@ public class SavesManager
 	 */
 	public static void fireNavigatedToNextEvent()
 	{
-		for (NavigationListener listener : navigationListeners)
+		runOnEventDispatchThread(() -> {
+			for (NavigationListener listener : navigationListeners)
+			{
+				listener.navigatedToNext();
+			}
+		});
+	}
+
+
+	/**
+	 * Fires an entryAddedExternally event.
+	 * 
+	 * @param entry the entry that was added
+	 */
+	public static void fireEntryAddedExternallyEvent(SaveListEntry entry)
+	{
+		for (FileSystemListener listener : fileSystemListeners)
 		{
-			listener.navigatedToNext();
+			listener.entryAddedExternally(entry);
 		}
 	}
 
+
+	/**
+	 * Fires an entryRemovedExternally event.
+	 * 
+	 * @param entry the entry that was removed
+	 */
+	public static void fireEntryRemovedExternallyEvent(SaveListEntry entry)
+	{
+		for (FileSystemListener listener : fileSystemListeners)
+		{
+			listener.entryRemovedExternally(entry);
+		}
+	}
+
+
+	/**
+	 * Fires an entryChangedExternally event.
+	 * 
+	 * @param entry the entry that changed
+	 */
+	public static void fireEntryChangedExternallyEvent(SaveListEntry entry)
+	{
+		for (FileSystemListener listener : fileSystemListeners)
+		{
+			listener.entryChangedExternally(entry);
+		}
+	}
+
+
+	/**
+	 * Fires a profileOutOfSync event.
+	 * 
+	 * @param profile the profile that is out of sync
+	 */
+	public static void fireProfileOutOfSyncEvent(Profile profile)
+	{
+		for (FileSystemListener listener : fileSystemListeners)
+		{
+			listener.profileOutOfSync(profile);
+		}
+	}
+
+
+	/**
+	 * Runs the given action on the event dispatch thread. Runs it right away if called from the event dispatch thread, otherwise queues it.
+	 * Events fired from the keyboard hook or the loading thread go through here, since the listeners update Swing components.
+	 * 
+	 * @param action the action to run
+	 */
+	private static void runOnEventDispatchThread(Runnable action)
+	{
+		if (SwingUtilities.isEventDispatchThread())
+			action.run();
+		else
+			SwingUtilities.invokeLater(action);
+	}
+
 }
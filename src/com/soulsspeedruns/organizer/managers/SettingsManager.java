@@ -66,6 +66,18 @@ public class SettingsManager
 	private static final String PREFS_KEY_SETTING_DOUBLE_CLICK_LOAD = "doubleClickLoad";
 	private static final String PREFS_KEY_SETTING_CHECK_FOR_UPDATES = "checkForUpdates";
 	private static final String PREFS_KEY_SETTING_COMPACT_MODE = "compactMode";
+	private static final String PREFS_KEY_SETTING_FUZZY_SEARCH = "fuzzySearch";
+	private static final String PREFS_KEY_SETTING_SAVE_CACHE_SIZE = "saveCacheSize";
+	private static final String PREFS_KEY_SETTING_PREFETCH_DEPTH = "prefetchDepth";
+	private static final String PREFS_KEY_SETTING_PREFETCH_BUDGET = "prefetchBudget";
+	private static final String PREFS_KEY_SETTING_SKIP_IDENTICAL_LOADS = "skipIdenticalLoads";
+	private static final String PREFS_KEY_SETTING_DELTA_LOADS = "deltaLoads";
+	private static final String PREFS_KEY_SETTING_ATOMIC_LOADS = "atomicLoads";
+	private static final String PREFS_KEY_SETTING_DEDUPLICATION = "deduplication";
+	private static final String PREFS_KEY_SETTING_COMPRESSION = "compression";
+	private static final String PREFS_KEY_SETTING_CAPTURE = "capture";
+	private static final String PREFS_KEY_SETTING_CAPTURE_HISTORY_SIZE = "captureHistorySize";
+	private static final String PREFS_KEY_SETTING_CAPTURE_HISTORY_BUDGET = "captureHistoryBudget";
 
 	public static final String PREFS_KEY_GLOBAL_HOTKEY_LOAD = "hotkeyLoad";
 	public static final String PREFS_KEY_GLOBAL_HOTKEY_READ_ONLY = "hotkeyReadOnly";
@@ -85,6 +97,12 @@ public class SettingsManager
 
 	private static final String PREFS_ERROR_ON_RETRIEVE = "ERROR";
 
+	private static final int DEFAULT_SAVE_CACHE_SIZE = 128;
+	private static final int DEFAULT_PREFETCH_DEPTH = 2;
+	private static final int DEFAULT_PREFETCH_BUDGET = 64;
+	private static final int DEFAULT_CAPTURE_HISTORY_SIZE = 20;
+	private static final int DEFAULT_CAPTURE_HISTORY_BUDGET = 256;
+
 	private static Preferences prefs;
 
 	private static GlobalKeyboardHook keyboardHook;
@@ -94,8 +112,34 @@ public class SettingsManager
 
 	protected static void initialize()
 	{
-		initPreferenceData();
+		initializePreferences();
 		initKeyboardHook();
+	}
+
+
+	/**
+	 * Inits the preferences without establishing the keyboard hook, e.g. for running benchmarks where no global hotkeys are needed.
+	 */
+	protected static void initializePreferences()
+	{
+		initPreferenceData();
+
+		settingsListeners = new ArrayList<>();
+	}
+
+
+	/**
+	 * Inits the preferences under the given path instead of the one of the organizer, without importing legacy preferences or establishing the
+	 * keyboard hook, e.g. for running benchmarks without touching the settings of the organizer installed on this machine. All settings under the
+	 * given path are cleared, so they start out with their defaults.
+	 * 
+	 * @param path the path of the preferences node to use
+	 * @throws BackingStoreException if the preferences could not be cleared
+	 */
+	protected static void initializePreferences(String path) throws BackingStoreException
+	{
+		prefs = Preferences.userRoot().node(path);
+		prefs.clear();
 
 		settingsListeners = new ArrayList<>();
 	}
@@ -501,6 +545,317 @@ public class SettingsManager
 	}
 
 
+	/**
+	 * Enables/disables fuzzy search, which ranks saves by how well their whole path matches the search instead of filtering the tree.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setFuzzySearchEnabled(boolean flag)
+	{
+		if (isFuzzySearchEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_FUZZY_SEARCH, flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_FUZZY_SEARCH);
+	}
+
+
+	/**
+	 * Returns whether fuzzy search is enabled.
+	 * 
+	 * @return whether fuzzy search is enabled
+	 */
+	public static boolean isFuzzySearchEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_FUZZY_SEARCH, false);
+	}
+
+
+	/**
+	 * Sets the size of the in-memory cache for savestates.
+	 * 
+	 * @param megabytes the size in megabytes, 0 to disable the cache
+	 */
+	public static void setSaveCacheSize(int megabytes)
+	{
+		if (getSaveCacheSize() == megabytes)
+			return;
+		prefs.putInt(PREFS_KEY_SETTING_SAVE_CACHE_SIZE, megabytes);
+		SavesManager.getSaveCache().setCapacity(megabytes * 1024L * 1024L);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_SAVE_CACHE_SIZE);
+	}
+
+
+	/**
+	 * Returns the size of the in-memory cache for savestates.
+	 * 
+	 * @return the size in megabytes
+	 */
+	public static int getSaveCacheSize()
+	{
+		return prefs.getInt(PREFS_KEY_SETTING_SAVE_CACHE_SIZE, DEFAULT_SAVE_CACHE_SIZE);
+	}
+
+
+	/**
+	 * Sets the number of neighbours of the selected savestate that are read into memory ahead of time.
+	 * 
+	 * @param depth the number of neighbours above and below the selected savestate
+	 */
+	public static void setPrefetchDepth(int depth)
+	{
+		if (getPrefetchDepth() == depth)
+			return;
+		prefs.putInt(PREFS_KEY_SETTING_PREFETCH_DEPTH, depth);
+		SavesManager.getSavePrefetcher().setDepth(depth);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_PREFETCH_DEPTH);
+	}
+
+
+	/**
+	 * Returns the number of neighbours of the selected savestate that are read into memory ahead of time.
+	 * 
+	 * @return the number of neighbours above and below the selected savestate
+	 */
+	public static int getPrefetchDepth()
+	{
+		return prefs.getInt(PREFS_KEY_SETTING_PREFETCH_DEPTH, DEFAULT_PREFETCH_DEPTH);
+	}
+
+
+	/**
+	 * Sets how much memory may be used to read savestates ahead of time whenever the selection changes.
+	 * 
+	 * @param megabytes the budget in megabytes, 0 to disable prefetching
+	 */
+	public static void setPrefetchBudget(int megabytes)
+	{
+		if (getPrefetchBudget() == megabytes)
+			return;
+		prefs.putInt(PREFS_KEY_SETTING_PREFETCH_BUDGET, megabytes);
+		SavesManager.getSavePrefetcher().setBudget(megabytes * 1024L * 1024L);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_PREFETCH_BUDGET);
+	}
+
+
+	/**
+	 * Returns how much memory may be used to read savestates ahead of time whenever the selection changes.
+	 * 
+	 * @return the budget in megabytes
+	 */
+	public static int getPrefetchBudget()
+	{
+		return prefs.getInt(PREFS_KEY_SETTING_PREFETCH_BUDGET, DEFAULT_PREFETCH_BUDGET);
+	}
+
+
+	/**
+	 * Enables/disables skipping loads of savestates that are already in the gamefile.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setSkipIdenticalLoadsEnabled(boolean flag)
+	{
+		if (isSkipIdenticalLoadsEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_SKIP_IDENTICAL_LOADS, flag);
+		SavesManager.getSaveLoader().setSkipIdentical(flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_SKIP_IDENTICAL_LOADS);
+	}
+
+
+	/**
+	 * Returns whether loads of savestates that are already in the gamefile are skipped.
+	 * 
+	 * @return whether identical loads are skipped
+	 */
+	public static boolean isSkipIdenticalLoadsEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_SKIP_IDENTICAL_LOADS, false);
+	}
+
+
+	/**
+	 * Enables/disables delta loads, which only rewrite the parts of the gamefile that differ from the loaded savestate.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setDeltaLoadsEnabled(boolean flag)
+	{
+		if (isDeltaLoadsEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_DELTA_LOADS, flag);
+		SavesManager.getSaveLoader().setDeltaWrites(flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_DELTA_LOADS);
+	}
+
+
+	/**
+	 * Returns whether delta loads are enabled.
+	 * 
+	 * @return whether delta loads are enabled
+	 */
+	public static boolean isDeltaLoadsEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_DELTA_LOADS, true);
+	}
+
+
+	/**
+	 * Enables/disables atomic loads, which replace the gamefile through a temporary file instead of writing it in place. Atomic loads take
+	 * precedence over delta loads.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setAtomicLoadsEnabled(boolean flag)
+	{
+		if (isAtomicLoadsEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_ATOMIC_LOADS, flag);
+		SavesManager.getSaveLoader().setAtomicWrites(flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_ATOMIC_LOADS);
+	}
+
+
+	/**
+	 * Returns whether atomic loads are enabled.
+	 * 
+	 * @return whether atomic loads are enabled
+	 */
+	public static boolean isAtomicLoadsEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_ATOMIC_LOADS, false);
+	}
+
+
+	/**
+	 * Enables/disables deduplication, which stores newly imported savestates in the save store of the game and only keeps a reference to them in
+	 * the profile.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setDeduplicationEnabled(boolean flag)
+	{
+		if (isDeduplicationEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_DEDUPLICATION, flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_DEDUPLICATION);
+	}
+
+
+	/**
+	 * Returns whether deduplication is enabled.
+	 * 
+	 * @return whether deduplication is enabled
+	 */
+	public static boolean isDeduplicationEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_DEDUPLICATION, false);
+	}
+
+
+	/**
+	 * Enables/disables compression, which compresses newly imported savestates on disk.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setCompressionEnabled(boolean flag)
+	{
+		if (isCompressionEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_COMPRESSION, flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_COMPRESSION);
+	}
+
+
+	/**
+	 * Returns whether compression is enabled.
+	 * 
+	 * @return whether compression is enabled
+	 */
+	public static boolean isCompressionEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_COMPRESSION, false);
+	}
+
+
+	/**
+	 * Enables/disables capturing every state the game writes to the gamefile into the history of the selected profile.
+	 * 
+	 * @param flag True to enable, false to disable
+	 */
+	public static void setCaptureEnabled(boolean flag)
+	{
+		if (isCaptureEnabled() == flag)
+			return;
+		prefs.putBoolean(PREFS_KEY_SETTING_CAPTURE, flag);
+		SavesManager.getCaptureEngine().setEnabled(flag);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_CAPTURE);
+	}
+
+
+	/**
+	 * Returns whether the gamefile is captured.
+	 * 
+	 * @return whether capturing is enabled
+	 */
+	public static boolean isCaptureEnabled()
+	{
+		return prefs.getBoolean(PREFS_KEY_SETTING_CAPTURE, false);
+	}
+
+
+	/**
+	 * Sets how many captured states the history of each profile may hold.
+	 * 
+	 * @param size the maximum number of captures
+	 */
+	public static void setCaptureHistorySize(int size)
+	{
+		if (getCaptureHistorySize() == size)
+			return;
+		prefs.putInt(PREFS_KEY_SETTING_CAPTURE_HISTORY_SIZE, size);
+		SavesManager.getCaptureEngine().setLimits(size, getCaptureHistoryBudget() * 1024L * 1024L);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_CAPTURE_HISTORY_SIZE);
+	}
+
+
+	/**
+	 * Returns how many captured states the history of each profile may hold.
+	 * 
+	 * @return the maximum number of captures
+	 */
+	public static int getCaptureHistorySize()
+	{
+		return prefs.getInt(PREFS_KEY_SETTING_CAPTURE_HISTORY_SIZE, DEFAULT_CAPTURE_HISTORY_SIZE);
+	}
+
+
+	/**
+	 * Sets how much disk space the captured states of each profile may take up.
+	 * 
+	 * @param megabytes the budget in megabytes
+	 */
+	public static void setCaptureHistoryBudget(int megabytes)
+	{
+		if (getCaptureHistoryBudget() == megabytes)
+			return;
+		prefs.putInt(PREFS_KEY_SETTING_CAPTURE_HISTORY_BUDGET, megabytes);
+		SavesManager.getCaptureEngine().setLimits(getCaptureHistorySize(), megabytes * 1024L * 1024L);
+		fireSettingChangedEvent(PREFS_KEY_SETTING_CAPTURE_HISTORY_BUDGET);
+	}
+
+
+	/**
+	 * Returns how much disk space the captured states of each profile may take up.
+	 * 
+	 * @return the budget in megabytes
+	 */
+	public static int getCaptureHistoryBudget()
+	{
+		return prefs.getInt(PREFS_KEY_SETTING_CAPTURE_HISTORY_BUDGET, DEFAULT_CAPTURE_HISTORY_BUDGET);
+	}
+
+
 	/**
 	 * Returns the window size stored in the preferences.
 	 * 
@@ -564,6 +919,8 @@ public class SettingsManager
 	public static void setStoredHotkeyCode(GlobalHotkey hotkey, String keyCode)
 	{
 		prefs.put(hotkey.getPrefsKey(), keyCode);
+		if (keyboardHook != null)
+			keyboardHook.updateHotkeys();
 	}
 
 
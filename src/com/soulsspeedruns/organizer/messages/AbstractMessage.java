@@ -13,6 +13,7 @@ import java.util.TimerTask;
 
 import javax.swing.Icon;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 
 /**
@@ -172,12 +173,17 @@ public abstract class AbstractMessage extends JPanel
 
 
 	/**
-	 * Display the given message on screen.
+	 * Display the given message on screen. Can be called from any thread, the message is always shown on the event dispatch thread.
 	 * 
 	 * @param message the message to display
 	 */
 	public static void display(AbstractMessage message)
 	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> display(message));
+			return;
+		}
 		currentMessage = message;
 		
 		SUCCESSFUL_DELETE.fadeOut();
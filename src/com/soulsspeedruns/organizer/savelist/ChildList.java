@@ -0,0 +1,178 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+
+/**
+ * ChildList.
+ * <p>
+ * The children of a SaveListEntry, kept in an array in their sorted order. New children are inserted at their sorted position found by a binary
+ * search instead of sorting the whole list again, and children are additionally indexed by their name, so looking one up doesn't have to go
+ * through all of them.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+class ChildList extends AbstractList<SaveListEntry> implements RandomAccess
+{
+
+	private static final SaveListEntry[] EMPTY = new SaveListEntry[0];
+
+	private SaveListEntry[] elements = EMPTY;
+	private int size;
+	private final Map<String, SaveListEntry> names = new HashMap<>();
+
+
+	@Override
+	public SaveListEntry get(int index)
+	{
+		checkIndex(index, size);
+		return elements[index];
+	}
+
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+
+	@Override
+	public SaveListEntry set(int index, SaveListEntry entry)
+	{
+		checkIndex(index, size);
+		SaveListEntry previous = elements[index];
+		elements[index] = entry;
+		removeName(previous);
+		names.put(entry.getName(), entry);
+		return previous;
+	}
+
+
+	@Override
+	public void add(int index, SaveListEntry entry)
+	{
+		checkIndex(index, size + 1);
+		if (size == elements.length)
+			elements = Arrays.copyOf(elements, Math.max(8, size + (size >> 1)));
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = entry;
+		size++;
+		modCount++;
+		names.put(entry.getName(), entry);
+	}
+
+
+	@Override
+	public SaveListEntry remove(int index)
+	{
+		checkIndex(index, size);
+		SaveListEntry removed = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		elements[--size] = null;
+		modCount++;
+		removeName(removed);
+		return removed;
+	}
+
+
+	@Override
+	public boolean remove(Object o)
+	{
+		int index = indexOf(o);
+		if (index == -1)
+			return false;
+		remove(index);
+		return true;
+	}
+
+
+	@Override
+	public void clear()
+	{
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+		modCount++;
+		names.clear();
+	}
+
+
+	@Override
+	public void sort(Comparator<? super SaveListEntry> comparator)
+	{
+		Arrays.sort(elements, 0, size, comparator);
+		modCount++;
+	}
+
+
+	/**
+	 * Inserts the given entry behind all children that are sorted before or equal to it.
+	 *
+	 * @param entry      the entry to insert
+	 * @param comparator the comparator the children are sorted with
+	 * @return the index the entry was inserted at
+	 */
+	int addSorted(SaveListEntry entry, Comparator<SaveListEntry> comparator)
+	{
+		int low = 0;
+		int high = size;
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(entry, elements[middle]) < 0)
+				high = middle;
+			else
+				low = middle + 1;
+		}
+		add(low, entry);
+		return low;
+	}
+
+
+	/**
+	 * Returns the child with the given name.
+	 *
+	 * @param name the name
+	 * @return the child, or null if there is none
+	 */
+	SaveListEntry getByName(String name)
+	{
+		return names.get(name);
+	}
+
+
+	/**
+	 * Updates the name index after the given child was renamed. Does nothing if the entry isn't a child.
+	 *
+	 * @param entry   the renamed entry
+	 * @param oldName the name of the entry before it was renamed
+	 */
+	void nameChanged(SaveListEntry entry, String oldName)
+	{
+		if (names.get(oldName) != entry)
+			return;
+		names.remove(oldName);
+		names.put(entry.getName(), entry);
+	}
+
+
+	private void removeName(SaveListEntry entry)
+	{
+		names.remove(entry.getName(), entry);
+	}
+
+
+	private void checkIndex(int index, int bound)
+	{
+		if (index < 0 || index >= bound)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+}
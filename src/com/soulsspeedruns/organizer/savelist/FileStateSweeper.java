@@ -0,0 +1,97 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import com.soulsspeedruns.organizer.managers.SavesManager;
+
+
+/**
+ * FileStateSweeper.
+ * <p>
+ * Checks the files of the entries displayed in the save list on a background thread every few seconds, and updates the entries whose file was
+ * deleted or switched to read-only since the last check, re-sorting them if necessary. Painting the list only uses the state cached on the
+ * entries, so this catches the changes the ProfileWatcher doesn't report, e.g. because the file system doesn't support watching it.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+class FileStateSweeper
+{
+
+	/**
+	 * Time in milliseconds between two checks.
+	 */
+	private static final int SWEEP_INTERVAL = 5000;
+
+	private final SaveList saveList;
+	private final Timer timer;
+	private final ExecutorService executor;
+	private boolean isSweeping;
+
+
+	/**
+	 * Creates a new FileStateSweeper for the given list.
+	 *
+	 * @param saveList the list whose entries to check
+	 */
+	FileStateSweeper(SaveList saveList)
+	{
+		this.saveList = saveList;
+		timer = new Timer(SWEEP_INTERVAL, event -> sweep());
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "File State Sweeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+
+	/**
+	 * Starts checking the entries periodically.
+	 */
+	void start()
+	{
+		timer.start();
+	}
+
+
+	/**
+	 * Checks the currently displayed entries in the background, unless the previous check is still running. Called on the event dispatch thread.
+	 */
+	private void sweep()
+	{
+		if (isSweeping || !saveList.isShowing())
+			return;
+		SaveListModel model = (SaveListModel) saveList.getModel();
+		List<SaveListEntry> entries = new ArrayList<>(model.getSize());
+		for (int i = 0; i < model.getSize(); i++)
+			entries.add(model.getElementAt(i));
+		if (entries.isEmpty())
+			return;
+		isSweeping = true;
+		executor.execute(() -> {
+			List<SaveListEntry> changed = new ArrayList<>();
+			for (SaveListEntry entry : entries)
+			{
+				if (entry.refreshFileState())
+					changed.add(entry);
+			}
+			SwingUtilities.invokeLater(() -> {
+				isSweeping = false;
+				for (SaveListEntry entry : changed)
+				{
+					entry.updateSortPosition();
+					SavesManager.fireEntryChangedExternallyEvent(entry);
+				}
+			});
+		});
+	}
+
+}
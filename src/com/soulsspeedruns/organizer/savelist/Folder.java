@@ -6,8 +6,8 @@ import java.awt.Font;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.BorderFactory;
@@ -17,6 +17,9 @@ import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.UIManager;
 
+import com.soulsspeedruns.organizer.io.FileAttributes;
+import com.soulsspeedruns.organizer.io.SaveStore;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
 import com.soulsspeedruns.organizer.managers.SavesManager;
 
 import jiconfont.icons.FontAwesome;
@@ -35,6 +38,7 @@ public class Folder extends SaveListEntry
 {
 
 	private boolean isClosed = true;
+	private boolean childrenLoaded = false;
 
 	private static final Color ICON_COLOR = new Color(251, 208, 108);
 	private static final Color ICON_COLOR_ERROR = Color.RED;
@@ -48,7 +52,7 @@ public class Folder extends SaveListEntry
 
 
 	/**
-	 * Creates a new Folder instance. Children in the underlying filesystem are automatically added.
+	 * Creates a new Folder instance. Children in the underlying filesystem are added the first time they are accessed.
 	 * 
 	 * @param parent the parent folder
 	 * @param file the associated file
@@ -56,17 +60,89 @@ public class Folder extends SaveListEntry
 	public Folder(Folder parent, File file)
 	{
 		super(parent, file);
-		File[] files = file.listFiles();
+	}
+
+
+	@Override
+	public List<SaveListEntry> getChildren()
+	{
+		if (!childrenLoaded)
+			loadChildren();
+		return super.getChildren();
+	}
+
+
+	@Override
+	public void addChild(SaveListEntry entry)
+	{
+		if (!childrenLoaded)
+		{
+			loadChildren();
+			// the file of a new entry usually exists already, in which case loading the children picked it up as well
+			getLoadedChildren().removeIf(child -> child.getFile().equals(entry.getFile()));
+		}
+		super.addChild(entry);
+	}
+
+
+	/**
+	 * Returns whether the children of this folder have been loaded from the file system yet.
+	 * 
+	 * @return whether the children are loaded
+	 */
+	public boolean areChildrenLoaded()
+	{
+		return childrenLoaded;
+	}
+
+
+	/**
+	 * Sets the children of this folder as they were loaded by the FolderScanner.
+	 * 
+	 * @param children the sorted children
+	 */
+	void setLoadedChildren(List<SaveListEntry> children)
+	{
+		ChildList loadedChildren = getLoadedChildren();
+		loadedChildren.clear();
+		loadedChildren.addAll(children);
+		childrenLoaded = true;
+	}
+
+
+	/**
+	 * Adds the files and directories in the underlying filesystem as children.
+	 */
+	private void loadChildren()
+	{
+		childrenLoaded = true;
+		ChildList children = getLoadedChildren();
+		File[] files = getFile().listFiles();
+		if (files == null)
+			return;
 		for (File currentFile : files)
 		{
-			if (currentFile.isDirectory())
-			{
-				addChild(new Folder(this, currentFile));
+			if (OrganizerManager.isOrganizerFile(currentFile))
 				continue;
+			// reading the attributes once gives both the type and the sort key
+			BasicFileAttributes attributes = null;
+			try
+			{
+				attributes = FileAttributes.read(currentFile.toPath());
+			}
+			catch (IOException e)
+			{
+				// the sort key is read again when sorting
 			}
-			addChild(new Save(this, currentFile));
+			boolean isDirectory = attributes != null ? attributes.isDirectory() : currentFile.isDirectory();
+			SaveListEntry child = isDirectory ? new Folder(this, currentFile) : new Save(this, currentFile);
+			if (attributes != null)
+				child.setSortKey(SortKey.of(currentFile, attributes));
+			if (isMarkedForCut())
+				child.setMarkedForCut(true);
+			children.add(child);
 		}
-		Collections.sort(getChildren());
+		children.sort(getComparator(SavesManager.getSelectedSortingCategory()));
 	}
 
 	/**
@@ -99,12 +175,19 @@ public class Folder extends SaveListEntry
 	@Override
 	public boolean rename(String newName)
 	{
+		File oldFile = getFile();
 		File newFile = new File(getParent().getFile() + File.separator + newName);
 		try
 		{
 			// if the same name is given, then only the file variable is supposed to be updated for a new parent
 			if (!getFile().getName().equals((newName)))
-				Files.move(getFile().toPath(), newFile.toPath());
+			{
+				// savefiles that are rewritten in the background must not reappear under the old path
+				synchronized (SaveStore.getFileLock())
+				{
+					Files.move(getFile().toPath(), newFile.toPath());
+				}
+			}
 		}
 		catch (IOException e)
 		{
@@ -114,7 +197,9 @@ public class Folder extends SaveListEntry
 			return false;
 		}
 		setFile(newFile);
-		for (SaveListEntry entry : getChildren())
+		if (!oldFile.getName().equals(newName))
+			moveUsage(oldFile);
+		for (SaveListEntry entry : getLoadedChildren())
 		{
 			// call rename on all children with the same name to update the path with the new parent
 			if (!entry.rename(entry.getName()))
@@ -143,7 +228,7 @@ public class Folder extends SaveListEntry
 	@Override
 	public void delete()
 	{
-		List<SaveListEntry> children = new LinkedList<>(getChildren());
+		List<SaveListEntry> children = new ArrayList<>(getChildren());
 		for (SaveListEntry child : children)
 		{
 			child.delete();
@@ -171,7 +256,7 @@ public class Folder extends SaveListEntry
 		if(isMarkedForCut())
 			label.setForeground(Color.GRAY);
 		
-		if (!getFile().exists())
+		if (!exists())
 		{
 			label.setForeground(ICON_COLOR_ERROR);
 			label.setToolTipText("Directory does not exist any longer!");
@@ -183,13 +268,4 @@ public class Folder extends SaveListEntry
 
 	}
 
-
-	@Override
-	public int compareTo(SaveListEntry entry)
-	{
-		if (entry instanceof Save)
-			return -1;
-		return SavesManager.getSelectedSortingCategory().compare(this, entry);
-	}
-
 }
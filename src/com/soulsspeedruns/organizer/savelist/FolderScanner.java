@@ -0,0 +1,154 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import com.soulsspeedruns.organizer.io.FileAttributes;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+
+
+/**
+ * FolderScanner.
+ * <p>
+ * Builds the complete tree of folders and saves below a profile directory. Sibling sub directories are listed in parallel on a fork/join pool,
+ * so that scanning a large profile is limited by the number of cores rather than by the latency of listing one directory after another. The
+ * returned tree is fully loaded and not visible to anything else until the scan is done.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class FolderScanner
+{
+
+	// listing directories mostly waits on the file system, so more threads than cores pay off
+	private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), pool -> {
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("Profile Scanner " + thread.getPoolIndex());
+		thread.setDaemon(true);
+		return thread;
+	}, null, false);
+
+
+	private FolderScanner()
+	{
+	}
+
+
+	/**
+	 * Scans the given profile directory and returns its complete tree. Blocks until the scan is done.
+	 *
+	 * @param directory the profile directory
+	 * @return the root folder with all of its children loaded
+	 * @throws IOException if the profile directory could not be listed
+	 */
+	public static RootFolder scan(File directory) throws IOException
+	{
+		RootFolder root = new RootFolder(directory);
+		Comparator<SaveListEntry> comparator = SaveListEntry.getComparator(SavesManager.getSelectedSortingCategory());
+		try
+		{
+			POOL.invoke(new ScanTask(root, comparator, true));
+		}
+		catch (UncheckedIOException e)
+		{
+			throw e.getCause();
+		}
+		return root;
+	}
+
+
+	/**
+	 * Scans the given profile directory in the background.
+	 *
+	 * @param directory the profile directory
+	 * @return a future completed with the root folder once the scan is done
+	 */
+	public static CompletableFuture<RootFolder> scanInBackground(File directory)
+	{
+		return CompletableFuture.supplyAsync(() -> {
+			try
+			{
+				return scan(directory);
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}, POOL);
+	}
+
+
+	/**
+	 * Lists a single directory and forks a task for each of its sub directories.
+	 */
+	private static class ScanTask extends RecursiveAction
+	{
+
+		private final Folder folder;
+		private final Comparator<SaveListEntry> comparator;
+		private final boolean isRoot;
+
+
+		private ScanTask(Folder folder, Comparator<SaveListEntry> comparator, boolean isRoot)
+		{
+			this.folder = folder;
+			this.comparator = comparator;
+			this.isRoot = isRoot;
+		}
+
+
+		@Override
+		protected void compute()
+		{
+			List<SaveListEntry> children = new ArrayList<>();
+			List<ScanTask> subTasks = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder.getFile().toPath()))
+			{
+				for (Path path : stream)
+				{
+					File file = path.toFile();
+					if (OrganizerManager.isOrganizerFile(file))
+						continue;
+					// the attributes are read anyway, so the children are sorted without reading them again
+					BasicFileAttributes attributes = FileAttributes.read(path);
+					SaveListEntry child;
+					if (attributes.isDirectory())
+					{
+						child = new Folder(folder, file);
+						subTasks.add(new ScanTask((Folder) child, comparator, false));
+					}
+					else
+						child = new Save(folder, file);
+					child.setSortKey(SortKey.of(file, attributes));
+					children.add(child);
+				}
+			}
+			catch (IOException e)
+			{
+				// sub directories that can't be listed stay empty, just like they would when loaded lazily
+				if (isRoot)
+					throw new UncheckedIOException(e);
+			}
+			Collections.sort(children, comparator);
+			folder.setLoadedChildren(children);
+			invokeAll(subTasks);
+		}
+
+	}
+
+}
@@ -0,0 +1,223 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.Arrays;
+
+
+/**
+ * FuzzyMatcher.
+ * <p>
+ * Matches the tokens of a search query against the case-folded paths of saves. Every token has to match somewhere in the path, either as a
+ * substring, as a subsequence of characters in order, or with a few typos against the beginning of a word. Substrings score higher than
+ * subsequences, which score higher than typos, and matches in the save's own name or at the start of a word get a bonus. The buffers are reused
+ * between matches, so a matcher must only be used by one thread at a time.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+final class FuzzyMatcher
+{
+
+	private static final String[] NO_TOKENS = new String[0];
+
+	private int[] ranges = new int[16];
+	private int rangeCount;
+
+	private int[] previousColumn = new int[16];
+	private int[] currentColumn = new int[16];
+
+
+	/**
+	 * Splits the given folded query into its tokens.
+	 *
+	 * @param query the folded query
+	 * @return the tokens
+	 */
+	static String[] tokenize(String query)
+	{
+		String trimmed = query.trim();
+		return trimmed.isEmpty() ? NO_TOKENS : trimmed.split("\\s+");
+	}
+
+
+	/**
+	 * Returns the number of typos allowed for a token of the given length.
+	 *
+	 * @param length the length of the token
+	 * @return the maximum edit distance
+	 */
+	static int getMaxEdits(int length)
+	{
+		return length >= 8 ? 2 : length >= 4 ? 1 : 0;
+	}
+
+
+	/**
+	 * Matches the given tokens against the given path.
+	 *
+	 * @param entry  the entry the path belongs to
+	 * @param path   the folded path of the entry relative to its profile
+	 * @param tokens the folded tokens of the query
+	 * @return the match, or null if any token did not match
+	 */
+	SearchMatch match(SaveListEntry entry, String path, String[] tokens)
+	{
+		rangeCount = 0;
+		int nameStart = path.lastIndexOf('/') + 1;
+		int score = 0;
+		for (String token : tokens)
+		{
+			int tokenScore = matchSubstring(path, nameStart, token);
+			if (tokenScore == 0)
+				tokenScore = matchSubsequence(path, token);
+			if (tokenScore == 0)
+				tokenScore = matchWithTypos(path, nameStart, token);
+			if (tokenScore == 0)
+				return null;
+			score += tokenScore;
+		}
+		return new SearchMatch(entry, score, getMergedRanges());
+	}
+
+
+	private int matchSubstring(String path, int nameStart, String token)
+	{
+		int index = path.indexOf(token, nameStart);
+		boolean inName = index >= 0;
+		if (!inName)
+			index = path.indexOf(token);
+		if (index < 0)
+			return 0;
+		addRange(index, index + token.length());
+		return 100 * token.length() + (inName ? 50 : 0) + (isWordStart(path, index) ? 50 : 0);
+	}
+
+
+	private int matchSubsequence(String path, String token)
+	{
+		int mark = rangeCount;
+		int position = 0;
+		int gaps = 0;
+		for (int i = 0; i < token.length(); i++)
+		{
+			int index = path.indexOf(token.charAt(i), position);
+			if (index < 0)
+			{
+				rangeCount = mark;
+				return 0;
+			}
+			if (i > 0 && index != position)
+				gaps++;
+			addRange(index, index + 1);
+			position = index + 1;
+		}
+		return Math.max(1, 10 * token.length() - 5 * gaps);
+	}
+
+
+	/**
+	 * Matches the token against the beginning of each word of the path, allowing a few insertions, deletions and substitutions. Comparing
+	 * against the beginning of words keeps a token matching while it is still being typed.
+	 */
+	private int matchWithTypos(String path, int nameStart, String token)
+	{
+		int maxEdits = getMaxEdits(token.length());
+		if (maxEdits == 0)
+			return 0;
+		ensureColumnCapacity(token.length() + 1);
+		int bestDistance = maxEdits + 1;
+		int bestStart = -1;
+		int bestEnd = -1;
+		for (int start = 0; start < path.length(); start++)
+		{
+			if (!Character.isLetterOrDigit(path.charAt(start)) || !isWordStart(path, start))
+				continue;
+			int[] previous = previousColumn;
+			int[] current = currentColumn;
+			for (int i = 0; i <= token.length(); i++)
+				previous[i] = i;
+			for (int end = start; end < path.length() && end - start < token.length() + maxEdits; end++)
+			{
+				char c = path.charAt(end);
+				current[0] = end - start + 1;
+				int columnMinimum = current[0];
+				for (int i = 1; i <= token.length(); i++)
+				{
+					int cost = token.charAt(i - 1) == c ? 0 : 1;
+					current[i] = Math.min(Math.min(previous[i] + 1, current[i - 1] + 1), previous[i - 1] + cost);
+					columnMinimum = Math.min(columnMinimum, current[i]);
+				}
+				// prefer matches in the save's own name when the distance is equal
+				if (current[token.length()] < bestDistance || current[token.length()] == bestDistance && start >= nameStart && bestStart < nameStart)
+				{
+					bestDistance = current[token.length()];
+					bestStart = start;
+					bestEnd = end + 1;
+				}
+				if (columnMinimum > maxEdits)
+					break;
+				int[] swap = previous;
+				previous = current;
+				current = swap;
+			}
+		}
+		if (bestDistance > maxEdits)
+			return 0;
+		addRange(bestStart, bestEnd);
+		return Math.max(1, 20 * token.length() - 10 * bestDistance);
+	}
+
+
+	private static boolean isWordStart(String path, int index)
+	{
+		return index == 0 || !Character.isLetterOrDigit(path.charAt(index - 1));
+	}
+
+
+	private void ensureColumnCapacity(int capacity)
+	{
+		if (previousColumn.length < capacity)
+		{
+			previousColumn = new int[capacity];
+			currentColumn = new int[capacity];
+		}
+	}
+
+
+	private void addRange(int start, int end)
+	{
+		if (rangeCount + 2 > ranges.length)
+			ranges = Arrays.copyOf(ranges, ranges.length * 2);
+		ranges[rangeCount++] = start;
+		ranges[rangeCount++] = end;
+	}
+
+
+	/**
+	 * Returns the collected ranges sorted by their start, with overlapping and adjacent ranges merged.
+	 */
+	private int[] getMergedRanges()
+	{
+		int pairs = rangeCount / 2;
+		long[] sorted = new long[pairs];
+		for (int i = 0; i < pairs; i++)
+			sorted[i] = (long) ranges[2 * i] << 32 | ranges[2 * i + 1];
+		Arrays.sort(sorted);
+		int[] merged = new int[rangeCount];
+		int count = 0;
+		for (long range : sorted)
+		{
+			int start = (int) (range >>> 32);
+			int end = (int) range;
+			if (count > 0 && start <= merged[count - 1])
+				merged[count - 1] = Math.max(merged[count - 1], end);
+			else
+			{
+				merged[count++] = start;
+				merged[count++] = end;
+			}
+		}
+		return Arrays.copyOf(merged, count);
+	}
+
+}
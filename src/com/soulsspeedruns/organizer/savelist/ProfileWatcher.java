@@ -0,0 +1,554 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import com.soulsspeedruns.organizer.games.Game;
+import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.listeners.ProfileListener;
+import com.soulsspeedruns.organizer.managers.GamesManager;
+import com.soulsspeedruns.organizer.managers.OrganizerManager;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+
+import com.sun.nio.file.ExtendedWatchEventModifier;
+
+
+/**
+ * ProfileWatcher.
+ * <p>
+ * Watches the profile directory of the selected game for files and directories that are created, deleted or changed outside of the organizer, and
+ * applies them to the trees of the profiles one entry at a time. Changes are collected until the directory was quiet for a moment, so that copying
+ * a whole folder of saves in results in a single update. An entry that disappeared and one that appeared in the same folder within one update are
+ * treated as a rename if their size and times match, so the entry keeps its selection, open state and usage. Only folders whose children are
+ * loaded already are updated, all others pick up the changes once they are loaded. If the file system reports that changes were missed, the
+ * affected trees are loaded again completely.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class ProfileWatcher implements ProfileListener
+{
+
+	/**
+	 * Time in milliseconds without any further changes after which collected changes are applied.
+	 */
+	private static final long QUIET_PERIOD = 300;
+
+	/**
+	 * Maximum time in milliseconds that changes are collected for while the directory keeps changing.
+	 */
+	private static final long MAX_DELAY = 2000;
+
+	/**
+	 * The events that are watched for. Modifications are needed to notice files switching to read-only.
+	 */
+	private static final WatchEvent.Kind<?>[] EVENT_KINDS = { StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+			StandardWatchEventKinds.ENTRY_MODIFY };
+
+	private Session session;
+
+
+	/**
+	 * Starts watching the profile directory of the selected game and keeps following the selected game from then on.
+	 */
+	public void start()
+	{
+		GamesManager.addProfileListener(this);
+		watch(GamesManager.getSelectedGame());
+	}
+
+
+	/**
+	 * Watches the profile directory of the given game. Stops watching the previous directory, if any.
+	 *
+	 * @param game the game to watch, or null to stop watching
+	 */
+	public synchronized void watch(Game game)
+	{
+		File directory = game == null ? null : game.getDirectory();
+		if (session != null)
+		{
+			if (session.game == game && session.root.toFile().equals(directory))
+				return;
+			session.close();
+			session = null;
+		}
+		if (directory == null || !directory.isDirectory())
+			return;
+		try
+		{
+			session = new Session(game, directory.toPath());
+		}
+		catch (IOException e)
+		{
+			// watching is a convenience, the manual refresh still works without it
+			session = null;
+			return;
+		}
+		Thread thread = new Thread(session, "Profile Watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	/**
+	 * Stops watching.
+	 */
+	public synchronized void stop()
+	{
+		watch(null);
+	}
+
+
+	/**
+	 * Returns whether the given session is still the one that is watching.
+	 *
+	 * @param session the session
+	 * @return whether it is the current session
+	 */
+	private synchronized boolean isCurrent(Session session)
+	{
+		return this.session == session;
+	}
+
+
+	/**
+	 * Applies the changes collected by the given session. Called on the event dispatch thread.
+	 *
+	 * @param session  the session that collected the changes
+	 * @param changed  the paths that were created, deleted or changed
+	 * @param overflow whether changes were missed
+	 */
+	private void apply(Session session, Set<Path> changed, boolean overflow)
+	{
+		if (!isCurrent(session))
+			return;
+		if (overflow)
+		{
+			Profile selectedProfile = GamesManager.getSelectedProfile();
+			for (Profile profile : session.game.getProfiles())
+			{
+				if (profile == selectedProfile)
+					SavesManager.fireProfileOutOfSyncEvent(profile);
+				else
+					profile.setRoot(null); // loaded from scratch the next time it is accessed
+			}
+			return;
+		}
+		applyRenames(session, changed);
+		// paths below a renamed folder resolve to nothing anymore, its entry already has the new paths
+		for (Path path : changed)
+		{
+			Folder folder = getLoadedParent(session, path);
+			if (folder != null)
+				synchronizeChild(folder, path.toFile());
+		}
+	}
+
+
+	/**
+	 * Returns the loaded folder whose children include the entry of the given path.
+	 *
+	 * @param session the session that collected the change
+	 * @param path    the path that was created, deleted or changed
+	 * @return the parent folder, or null if it isn't loaded or the path doesn't belong to the tree of a profile
+	 */
+	private static Folder getLoadedParent(Session session, Path path)
+	{
+		Path relativePath = session.root.relativize(path);
+		// the profile directories themselves are managed through the profile settings
+		if (relativePath.getNameCount() < 2 || OrganizerManager.isOrganizerFile(path.toFile()))
+			return null;
+		Profile profile = getProfile(session.game, relativePath.getName(0).toString());
+		if (profile == null)
+			return null;
+		Folder folder = profile.getRoot();
+		for (int i = 1; i < relativePath.getNameCount() - 1; i++)
+		{
+			if (!folder.areChildrenLoaded())
+				return null;
+			SaveListEntry child = getLoadedChild(folder, relativePath.getName(i).toString());
+			if (!(child instanceof Folder))
+				return null;
+			folder = (Folder) child;
+		}
+		return folder.areChildrenLoaded() ? folder : null;
+	}
+
+
+	/**
+	 * Finds the entries among the given changes whose file disappeared while a file with the same size and times appeared in the same folder, and
+	 * renames them to the new file instead of replacing them.
+	 *
+	 * @param session the session that collected the changes
+	 * @param changed the paths that were created, deleted or changed
+	 */
+	private void applyRenames(Session session, Set<Path> changed)
+	{
+		List<SaveListEntry> vanished = new ArrayList<>();
+		List<File> appeared = new ArrayList<>();
+		for (Path path : changed)
+		{
+			Folder folder = getLoadedParent(session, path);
+			if (folder == null)
+				continue;
+			File file = path.toFile();
+			SaveListEntry existing = getLoadedChild(folder, file.getName());
+			if (existing != null && !file.exists())
+				vanished.add(existing);
+			else if (existing == null && file.exists())
+				appeared.add(file);
+		}
+		if (vanished.isEmpty())
+			return;
+		for (File file : appeared)
+		{
+			SaveListEntry entry = findRenamedEntry(vanished, file);
+			if (entry == null)
+				continue;
+			vanished.remove(entry);
+			rename(entry, file);
+		}
+	}
+
+
+	/**
+	 * Returns the entry among the given ones that was renamed to the given file, judged by the sort key that was read before the rename.
+	 *
+	 * @param candidates the entries whose file disappeared
+	 * @param file       the file that appeared
+	 * @return the renamed entry, or null if none matches
+	 */
+	private static SaveListEntry findRenamedEntry(List<SaveListEntry> candidates, File file)
+	{
+		SortKey key = SortKey.read(file);
+		for (SaveListEntry entry : candidates)
+		{
+			SortKey previous = entry.getCachedSortKey();
+			if (previous != null && entry.getParent().getFile().equals(file.getParentFile()) && entry instanceof Folder == file.isDirectory()
+					&& previous.getSize() == key.getSize() && previous.getCreationTime() == key.getCreationTime()
+					&& previous.getLastModifiedTime() == key.getLastModifiedTime())
+				return entry;
+		}
+		return null;
+	}
+
+
+	/**
+	 * Points the given entry at the file it was renamed to outside of the organizer, and moves its usage along with it.
+	 *
+	 * @param entry the entry
+	 * @param file  the new file of the entry
+	 */
+	private static void rename(SaveListEntry entry, File file)
+	{
+		File oldFile = entry.getFile();
+		Folder folder = entry.getParent();
+		folder.getLoadedChildren().remove(entry);
+		entry.setFile(file);
+		entry.moveUsage(oldFile);
+		addSorted(folder, entry);
+		SavesManager.fireEntryRenamedEvent(entry);
+	}
+
+
+	/**
+	 * Adds, removes or replaces the child of the given folder for the given file depending on its current state in the file system, or updates
+	 * whether the file of the child is writable. Does nothing if the child is up to date already, e.g. because the change was made by the
+	 * organizer itself.
+	 *
+	 * @param folder the parent folder
+	 * @param file   the file of the child
+	 */
+	private void synchronizeChild(Folder folder, File file)
+	{
+		SaveListEntry existing = getLoadedChild(folder, file.getName());
+		boolean exists = file.exists();
+		boolean isDirectory = file.isDirectory();
+		if (existing != null && (!exists || existing instanceof Folder != isDirectory))
+		{
+			folder.removeChild(existing);
+			SavesManager.fireEntryRemovedExternallyEvent(existing);
+			existing = null;
+		}
+		if (existing == null && exists)
+		{
+			SaveListEntry entry = isDirectory ? new Folder(folder, file) : new Save(folder, file);
+			if (folder.isMarkedForCut())
+				entry.setMarkedForCut(true);
+			addSorted(folder, entry);
+			folder.childAdded(entry);
+			SavesManager.fireEntryAddedExternallyEvent(entry);
+		}
+		else if (existing != null)
+		{
+			// a modification may have changed the times, size or read-only state the entry is sorted by
+			boolean changed = existing.refreshFileState();
+			if (existing.updateSortPosition() || changed)
+				SavesManager.fireEntryChangedExternallyEvent(existing);
+		}
+	}
+
+
+	/**
+	 * Inserts the given entry at its sorted position among the loaded children of the given folder.
+	 *
+	 * @param folder the folder
+	 * @param entry  the entry to insert
+	 */
+	private static void addSorted(Folder folder, SaveListEntry entry)
+	{
+		folder.getLoadedChildren().addSorted(entry, SaveListEntry.getComparator(SavesManager.getSelectedSortingCategory()));
+	}
+
+
+	/**
+	 * Returns the loaded child of the given folder with the given name, without loading any children.
+	 *
+	 * @param folder the folder
+	 * @param name   the name of the child
+	 * @return the child, or null if there is none
+	 */
+	private static SaveListEntry getLoadedChild(Folder folder, String name)
+	{
+		return folder.getLoadedChildren().getByName(name);
+	}
+
+
+	/**
+	 * Returns the profile of the given game with the given name.
+	 *
+	 * @param game the game
+	 * @param name the name of the profile
+	 * @return the profile, or null if there is none
+	 */
+	private static Profile getProfile(Game game, String name)
+	{
+		for (Profile profile : game.getProfiles())
+		{
+			if (profile.getName().equals(name))
+				return profile;
+		}
+		return null;
+	}
+
+
+	@Override
+	public void profileDeleted(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void profileCreated(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void profileDirectoryChanged(Game game)
+	{
+		if (game == GamesManager.getSelectedGame())
+			watch(game);
+	}
+
+
+	@Override
+	public void changedToProfile(Profile profile)
+	{
+	}
+
+
+	@Override
+	public void changedToGame(Game game)
+	{
+		watch(game);
+	}
+
+
+	/**
+	 * Watches one profile directory on a background thread until it is closed.
+	 */
+	private class Session implements Runnable
+	{
+
+		private final Game game;
+		private final Path root;
+		private final WatchService service;
+		private final Map<WatchKey, Path> directories = new HashMap<>();
+		private final boolean watchesFileTree;
+
+
+		private Session(Game game, Path root) throws IOException
+		{
+			this.game = game;
+			this.root = root;
+			service = FileSystems.getDefault().newWatchService();
+			watchesFileTree = registerFileTree();
+			if (!watchesFileTree)
+				registerRecursively(root);
+		}
+
+
+		/**
+		 * Registers the whole tree below the root with a single key. Only supported on Windows, where it also avoids holding a handle on every sub
+		 * directory, which would prevent them from being renamed or deleted.
+		 *
+		 * @return whether the tree could be registered
+		 * @throws IOException
+		 */
+		private boolean registerFileTree() throws IOException
+		{
+			try
+			{
+				directories.put(root.register(service, EVENT_KINDS, ExtendedWatchEventModifier.FILE_TREE), root);
+				return true;
+			}
+			catch (UnsupportedOperationException e)
+			{
+				return false;
+			}
+		}
+
+
+		/**
+		 * Registers the given directory and all directories below it.
+		 *
+		 * @param directory the directory
+		 * @throws IOException
+		 */
+		private void registerRecursively(Path directory) throws IOException
+		{
+			Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+			{
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException
+				{
+					directories.put(dir.register(service, EVENT_KINDS), dir);
+					return FileVisitResult.CONTINUE;
+				}
+
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e)
+				{
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				while (true)
+				{
+					WatchKey key = service.take();
+					Set<Path> changed = new LinkedHashSet<>();
+					boolean overflow = false;
+					long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_DELAY);
+					while (key != null)
+					{
+						overflow |= collect(key, changed);
+						long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+						if (remaining <= 0)
+							break;
+						key = service.poll(Math.min(QUIET_PERIOD, remaining), TimeUnit.MILLISECONDS);
+					}
+					boolean missedChanges = overflow;
+					SwingUtilities.invokeLater(() -> apply(this, changed, missedChanges));
+				}
+			}
+			catch (InterruptedException | ClosedWatchServiceException e)
+			{
+				// closed because another directory is watched now
+			}
+		}
+
+
+		/**
+		 * Collects the paths of the events of the given key and resets it.
+		 *
+		 * @param key     the signalled key
+		 * @param changed the set to add the changed paths to
+		 * @return whether events were lost
+		 */
+		private boolean collect(WatchKey key, Set<Path> changed)
+		{
+			boolean overflow = false;
+			Path directory = directories.get(key);
+			for (WatchEvent<?> event : key.pollEvents())
+			{
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+				{
+					overflow = true;
+					continue;
+				}
+				if (directory == null)
+					continue;
+				Path path = directory.resolve((Path) event.context());
+				changed.add(path);
+				if (!watchesFileTree && event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+						&& Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+				{
+					try
+					{
+						registerRecursively(path);
+					}
+					catch (IOException e)
+					{
+						// the directory is gone again or can't be read, either way there is nothing to watch
+					}
+				}
+			}
+			// keys of moved directories stay valid on some platforms, but their path is wrong from then on
+			if (!key.reset() || directory == null || !Files.isDirectory(directory))
+			{
+				key.cancel();
+				directories.remove(key);
+			}
+			return overflow;
+		}
+
+
+		private void close()
+		{
+			try
+			{
+				service.close();
+			}
+			catch (IOException e)
+			{
+				// the thread stops either way
+			}
+		}
+
+	}
+
+}
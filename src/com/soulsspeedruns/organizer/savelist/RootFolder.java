@@ -22,6 +22,8 @@ import com.soulsspeedruns.organizer.managers.OrganizerManager;
 public class RootFolder extends Folder
 {
 
+	private SearchIndex searchIndex;
+
 	/**
 	 * 
 	 * @param parent
@@ -33,6 +35,30 @@ public class RootFolder extends Folder
 	}
 
 
+	/**
+	 * Returns the search index of this profile. Builds it the first time it is requested, which loads the complete tree.
+	 * 
+	 * @return the search index
+	 */
+	public SearchIndex getSearchIndex()
+	{
+		if (searchIndex == null)
+			searchIndex = new SearchIndex(this);
+		return searchIndex;
+	}
+
+
+	/**
+	 * Returns the search index of this profile if it was built already.
+	 * 
+	 * @return the search index, or null
+	 */
+	SearchIndex getSearchIndexIfBuilt()
+	{
+		return searchIndex;
+	}
+
+
 	@Override
 	public boolean rename(String newName)
 	{
@@ -51,7 +77,7 @@ public class RootFolder extends Folder
 			return false;
 		}
 		setFile(newFile);
-		for (SaveListEntry entry : getChildren())
+		for (SaveListEntry entry : getLoadedChildren())
 		{
 			// call rename on all children with the same name to update the path with the new parent
 			if (!entry.rename(entry.getName()))
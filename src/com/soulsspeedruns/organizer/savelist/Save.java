@@ -12,6 +12,7 @@ import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
 
+import com.soulsspeedruns.organizer.io.SaveStore;
 import com.soulsspeedruns.organizer.managers.IconsAndFontsManager;
 import com.soulsspeedruns.organizer.managers.SavesManager;
 
@@ -44,24 +45,22 @@ public class Save extends SaveListEntry
 	}
 
 
-	@Override
-	public int compareTo(SaveListEntry entry)
-	{
-		if (entry instanceof Folder)
-			return 1;
-		return SavesManager.getSelectedSortingCategory().compare(this, entry);
-	}
-
-
 	@Override
 	public boolean rename(String newName)
 	{
+		File oldFile = getFile();
 		File newFile = new File(getParent().getFile() + File.separator + newName);
 		try
 		{
 			// if the same name is given, then only the file variable is supposed to be updated for a new parent
 			if (!getFile().getName().equals((newName)))
-				Files.move(getFile().toPath(), newFile.toPath());
+			{
+				// a savefile that is rewritten in the background must not reappear under its old name
+				synchronized (SaveStore.getFileLock())
+				{
+					Files.move(getFile().toPath(), newFile.toPath());
+				}
+			}
 		}
 		catch (IOException e)
 		{
@@ -71,6 +70,8 @@ public class Save extends SaveListEntry
 			return false;
 		}
 		setFile(newFile);
+		if (!oldFile.getName().equals(newName))
+			moveUsage(oldFile);
 		return true;
 	}
 
@@ -89,9 +90,9 @@ public class Save extends SaveListEntry
 		label.setBorder(BorderFactory.createEmptyBorder(1, 3 + getIndent(), 0, 1));
 		if(isMarkedForCut())
 			label.setForeground(Color.GRAY);
-		if (!getFile().canWrite())
+		if (!isWritable())
 			label.setIcon(IconsAndFontsManager.getReadOnlyIcon(IconsAndFontsManager.ICON_SIZE_SMALL, false));
-		if (!getFile().exists())
+		if (!exists())
 		{
 			label.setIcon(ICON_FILE_DOES_NOT_EXIST);
 			label.setForeground(Color.RED);
@@ -104,7 +105,12 @@ public class Save extends SaveListEntry
 	public void delete()
 	{
 		getParent().removeChild(this);
-		getFile().delete();
+		SavesManager.getSaveCache().invalidate(getFile());
+		// a savefile that is rewritten in the background must not reappear after it was deleted
+		synchronized (SaveStore.getFileLock())
+		{
+			getFile().delete();
+		}
 	}
 
 }
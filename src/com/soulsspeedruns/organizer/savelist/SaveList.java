@@ -1,6 +1,8 @@
 package com.soulsspeedruns.organizer.savelist;
 
 
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
@@ -8,13 +10,17 @@ import java.awt.event.MouseListener;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 
 import javax.swing.BorderFactory;
-import javax.swing.DefaultListModel;
 import javax.swing.DropMode;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
+import javax.swing.JViewport;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
 import javax.swing.TransferHandler;
@@ -24,6 +30,7 @@ import javax.swing.event.ListSelectionListener;
 import com.soulsspeedruns.organizer.components.SearchBar;
 import com.soulsspeedruns.organizer.games.Game;
 import com.soulsspeedruns.organizer.games.Profile;
+import com.soulsspeedruns.organizer.listeners.FileSystemListener;
 import com.soulsspeedruns.organizer.listeners.NavigationListener;
 import com.soulsspeedruns.organizer.listeners.ProfileListener;
 import com.soulsspeedruns.organizer.listeners.SaveListener;
@@ -46,16 +53,22 @@ import com.soulsspeedruns.organizer.messages.AbstractMessage;
  * @date 26 Sep 2015
  */
 public class SaveList extends JList<SaveListEntry> implements ListSelectionListener, ProfileListener, SaveListener, SearchListener, SortingListener,
-		MouseListener, KeyListener, NavigationListener
+		MouseListener, KeyListener, NavigationListener, FileSystemListener
 {
 
 	private static final int EMPTY_SPACE_AT_BOTTOM = 50;
 
 	private final TransferHandler transferHandler = new SaveListTransferHandler(this);
+	private final SaveListModel model = new SaveListModel();
 
 	private List<SaveListEntry> copiedEntries = new ArrayList<>();
 	private boolean isCut = false;
 
+	private String searchTerm;
+	private final Map<SaveListEntry, SearchMatch> searchMatches = new IdentityHashMap<>();
+	private final SearchScheduler searchScheduler = new SearchScheduler();
+	private final FileStateSweeper fileStateSweeper = new FileStateSweeper(this);
+
 
 	/**
 	 * Creates a new SaveList.
@@ -64,6 +77,9 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	{
 		super();
 
+		setModel(model);
+		SavesManager.getSavePrefetcher().setListModel(model);
+
 		setBorder(BorderFactory.createEmptyBorder(0, 0, EMPTY_SPACE_AT_BOTTOM, 0));
 
 		setCellRenderer(new SaveListRenderer());
@@ -84,9 +100,10 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 		SavesManager.addSearchListener(this);
 		SavesManager.addSortingListener(this);
 		SavesManager.addNavigationListener(this);
+		SavesManager.addFileSystemListener(this);
 
-		setModel(new DefaultListModel<>());
 		fillWith(GamesManager.getSelectedProfile(), null);
+		fileStateSweeper.start();
 	}
 
 
@@ -109,34 +126,171 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	 */
 	private void fillWith(Profile profile, String searchTerm)
 	{
-		DefaultListModel<SaveListEntry> model = (DefaultListModel<SaveListEntry>) getModel();
-		model.removeAllElements();
-		addChildrenToList(profile.getRoot(), searchTerm);
+		// a search that is still running would overwrite this with an outdated result
+		searchScheduler.cancel();
+		RootFolder root = profile.getRoot();
+		if (root == null)
+		{
+			showSearchResult(null, searchTerm, null, null);
+			return;
+		}
+		if (searchTerm == null)
+			showSearchResult(root, null, null, null);
+		else if (SettingsManager.isFuzzySearchEnabled())
+			showSearchResult(root, searchTerm, null, root.getSearchIndex().searchRanked(searchTerm));
+		else
+			showSearchResult(root, searchTerm, root.getSearchIndex().search(searchTerm), null);
+	}
+
+
+	/**
+	 * Searches the given profile in the background and fills the list with the result, unless another search or fill happens before it is done.
+	 * 
+	 * @param profile    the profile to search
+	 * @param searchTerm the search term
+	 */
+	private void searchInBackground(Profile profile, String searchTerm)
+	{
+		RootFolder root = profile.getRoot();
+		if (root == null)
+		{
+			fillWith(profile, searchTerm);
+			return;
+		}
+		searchScheduler.submit(root, searchTerm, SettingsManager.isFuzzySearchEnabled(),
+				result -> showSearchResult(root, searchTerm, result.getMatches(), result.getRankedMatches()));
+	}
+
+
+	/**
+	 * Replaces the contents of the list in a single update.
+	 * 
+	 * @param root          the root folder of the shown profile, or null if there is none
+	 * @param searchTerm    the search term, or null to show the whole tree
+	 * @param matches       the entries matching the search along with their parents, or null
+	 * @param rankedMatches the ranked matches of a fuzzy search, or null
+	 */
+	private void showSearchResult(RootFolder root, String searchTerm, Set<SaveListEntry> matches, List<SearchMatch> rankedMatches)
+	{
+		this.searchTerm = searchTerm;
+		searchMatches.clear();
+		List<SaveListEntry> rows = new ArrayList<>();
+		if (rankedMatches != null)
+		{
+			for (SearchMatch match : rankedMatches)
+			{
+				searchMatches.put(match.getEntry(), match);
+				rows.add(match.getEntry());
+			}
+		}
+		else if (root != null && (searchTerm == null || matches != null))
+			addChildrenToList(root, matches, rows);
+		setRows(rows);
+	}
+
+
+	/**
+	 * Sets the rows of the list. Only the rows that actually changed are updated, and the selected entries as well as the entry at the top of the
+	 * visible area stay where they are, as long as they are still displayed.
+	 * 
+	 * @param rows the rows
+	 */
+	private void setRows(List<SaveListEntry> rows)
+	{
+		List<SaveListEntry> selectedEntries = getSelectedValuesList();
+		SaveListEntry leadEntry = getSelectedValue();
+		int firstVisibleIndex = getFirstVisibleIndex();
+		SaveListEntry firstVisibleEntry = null;
+		int scrollOffset = 0;
+		if (firstVisibleIndex != -1)
+		{
+			firstVisibleEntry = model.getElementAt(firstVisibleIndex);
+			scrollOffset = getVisibleRect().y - getCellBounds(firstVisibleIndex, firstVisibleIndex).y;
+		}
+
+		model.setRows(rows);
+
+		if (!selectedEntries.equals(getSelectedValuesList()))
+			restoreSelection(selectedEntries, leadEntry);
+		if (firstVisibleEntry != null && model.indexOf(firstVisibleEntry) != firstVisibleIndex)
+			restoreScrollPosition(firstVisibleEntry, scrollOffset);
+	}
+
+
+	/**
+	 * Selects the given entries, as far as they are still displayed.
+	 * 
+	 * @param entries   the entries to select
+	 * @param leadEntry the entry to select last, so it becomes the lead of the selection
+	 */
+	private void restoreSelection(List<SaveListEntry> entries, SaveListEntry leadEntry)
+	{
+		ListSelectionModel selectionModel = getSelectionModel();
+		selectionModel.setValueIsAdjusting(true);
+		clearSelection();
+		for (SaveListEntry entry : entries)
+		{
+			int index = model.indexOf(entry);
+			if (entry != leadEntry && index != -1)
+				addSelectionInterval(index, index);
+		}
+		int leadIndex = leadEntry != null ? model.indexOf(leadEntry) : -1;
+		if (leadIndex != -1)
+			addSelectionInterval(leadIndex, leadIndex);
+		selectionModel.setValueIsAdjusting(false);
 	}
 
 
 	/**
-	 * Adds all the children of the given folder and its open subFolders to the list. If a search term is given, only saves/folders that contain the
-	 * term will be added.
+	 * Scrolls the list so the given entry is at the top of the visible area again.
 	 * 
-	 * @param folder
-	 * @param searchTerm
+	 * @param entry  the entry that was at the top of the visible area
+	 * @param offset how far the entry was scrolled out of view
 	 */
-	private void addChildrenToList(Folder folder, String searchTerm)
+	private void restoreScrollPosition(SaveListEntry entry, int offset)
 	{
-		DefaultListModel<SaveListEntry> model = (DefaultListModel<SaveListEntry>) getModel();
-		if (folder == null)
+		int index = model.indexOf(entry);
+		if (index == -1 || !(getParent() instanceof JViewport))
 			return;
+		JViewport viewport = (JViewport) getParent();
+		int maxY = Math.max(0, getPreferredSize().height - viewport.getExtentSize().height);
+		int y = Math.min(maxY, Math.max(0, getCellBounds(index, index).y + offset));
+		viewport.setViewPosition(new Point(viewport.getViewPosition().x, y));
+	}
+
+
+	/**
+	 * Returns the fuzzy search match of the given entry, if the list currently shows the results of a fuzzy search.
+	 * 
+	 * @param entry the entry
+	 * @return the match, or null
+	 */
+	SearchMatch getSearchMatch(SaveListEntry entry)
+	{
+		return searchMatches.get(entry);
+	}
+
+
+	/**
+	 * Adds all the children of the given folder and its open subFolders to the list. If search matches are given, only saves/folders among them
+	 * will be added.
+	 * 
+	 * @param folder  the folder whose children to add
+	 * @param matches the entries matching the search along with their parents, or null to add all entries
+	 * @param rows    the rows to add the entries to
+	 */
+	private void addChildrenToList(Folder folder, Set<SaveListEntry> matches, List<SaveListEntry> rows)
+	{
 		for (SaveListEntry entry : folder.getChildren())
 		{
-			if (searchTerm == null || (searchTerm.length() > 0 && entry.matchesSearchTerm(searchTerm)))
+			if (matches == null || matches.contains(entry))
 			{
-				model.addElement(entry);
+				rows.add(entry);
 				if (entry instanceof Folder)
 				{
 					Folder subFolder = (Folder) entry;
 					if (!subFolder.isClosed())
-						addChildrenToList(subFolder, searchTerm);
+						addChildrenToList(subFolder, matches, rows);
 
 				}
 			}
@@ -152,15 +306,46 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	 */
 	public void refreshFromFileSystem(boolean silent)
 	{
+		Profile profile = GamesManager.getSelectedProfile();
+		if (profile.getRoot() == null)
+		{
+			applyRefresh(null, null, silent);
+			return;
+		}
+		// the current tree stays displayed until the new one is scanned completely
+		FolderScanner.scanInBackground(profile.getRoot().getFile())
+				.whenComplete((root, error) -> SwingUtilities.invokeLater(() -> applyRefresh(root, error, silent)));
+	}
+
+
+	/**
+	 * Reloads the profiles and shows the given freshly scanned tree of the selected profile.
+	 * 
+	 * @param root   the scanned root folder of the selected profile, or null if there is none
+	 * @param error  the error that occurred when scanning, if any
+	 * @param silent whether to output a message on a successful refresh
+	 */
+	private void applyRefresh(RootFolder root, Throwable error, boolean silent)
+	{
+		if (error != null)
+		{
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			showRefreshError();
+			return;
+		}
 		try
 		{
 			GamesManager.refreshProfiles();
-			fillWith(GamesManager.getSelectedProfile(), null);
+			Profile profile = GamesManager.getSelectedProfile();
+			if (root != null && profile.getName().equals(root.getName()))
+				profile.setRoot(root);
+			fillWith(profile, null);
 		}
-		catch (Exception e)
+		catch (RuntimeException e)
 		{
-			JOptionPane.showMessageDialog(getParent(), "Error occurred when trying to refresh from the file system.", "Error occurred",
-					JOptionPane.ERROR_MESSAGE);
+			showRefreshError();
 			return;
 		}
 		if (!silent)
@@ -168,6 +353,16 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	}
 
 
+	/**
+	 * Tells the user that refreshing from the file system failed.
+	 */
+	private void showRefreshError()
+	{
+		JOptionPane.showMessageDialog(getParent(), "Error occurred when trying to refresh from the file system.", "Error occurred",
+				JOptionPane.ERROR_MESSAGE);
+	}
+
+
 	/**
 	 * Refreshes and sorts all entries in the list according to the current sorting method and the current status of Folders and Saves in memory.
 	 */
@@ -179,12 +374,37 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 			return;
 		currentProfile.getRoot().sort();
 		fillWith(currentProfile, null);
-		int selectedIndex = ((DefaultListModel<SaveListEntry>) getModel()).indexOf(selectedEntry);
-		if (selectedIndex != -1)
-		{
-			setSelectedIndex(selectedIndex);
-			ensureIndexIsVisible(selectedIndex);
-		}
+		selectEntry(selectedEntry);
+	}
+
+
+	/**
+	 * Selects the given entry and scrolls to it, if it is displayed.
+	 * 
+	 * @param entry the entry to select
+	 * @return whether the entry is displayed
+	 */
+	public boolean selectEntry(SaveListEntry entry)
+	{
+		int index = model.indexOf(entry);
+		if (index == -1)
+			return false;
+		setSelectedIndex(index);
+		ensureIndexIsVisible(index);
+		return true;
+	}
+
+
+	/**
+	 * Repaints the row of the given entry, if it is displayed.
+	 * 
+	 * @param entry the entry to repaint
+	 */
+	void repaintEntry(SaveListEntry entry)
+	{
+		int index = model.indexOf(entry);
+		if (index != -1)
+			repaint(getCellBounds(index, index));
 	}
 
 
@@ -290,13 +510,8 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 			SettingsManager.getKeyboardHook().setHotkeysEnabled(areHotkeysEnabled);
 			return;
 		}
-		DefaultListModel<SaveListEntry> model = (DefaultListModel<SaveListEntry>) getModel();
-		int startIndex = model.indexOf(entry) + 1;
-		for (int i = 0; i < entry.getChildren().size(); i++)
-		{
-			model.add(startIndex + i, entry.getChildren().get(i));
-		}
-		((Folder) entry).setClosed(false);
+		model.addAll(model.indexOf(entry) + 1, entry.getChildren());
+		folder.setClosed(false);
 	}
 
 
@@ -309,16 +524,56 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	{
 		if (entry instanceof Save)
 			return;
-		if (((Folder) entry).isClosed())
+		Folder folder = (Folder) entry;
+		if (folder.isClosed())
 			return;
-		DefaultListModel<SaveListEntry> model = (DefaultListModel<SaveListEntry>) getModel();
-		for (int i = 0; i < entry.getChildren().size(); i++)
+		// the displayed descendants of a folder are always the rows right below it
+		int index = model.indexOf(folder);
+		if (index != -1)
 		{
-			if (entry.getChildren().get(i).getChildren().size() > 0)
-				closeDirectory(entry.getChildren().get(i));
-			model.removeElement(entry.getChildren().get(i));
+			int end = index + 1;
+			while (end < model.getSize() && isDescendant(model.getElementAt(end), folder))
+				end++;
+			model.removeRange(index + 1, end);
 		}
-		((Folder) entry).setClosed(true);
+		setClosedRecursively(folder);
+	}
+
+
+	/**
+	 * Closes the given folder and all of its open sub folders. Closed sub folders are skipped, so their children are not loaded just for closing
+	 * them.
+	 * 
+	 * @param folder the folder to close
+	 */
+	private void setClosedRecursively(Folder folder)
+	{
+		if (folder.isClosed())
+			return;
+		for (SaveListEntry child : folder.getChildren())
+		{
+			if (child instanceof Folder)
+				setClosedRecursively((Folder) child);
+		}
+		folder.setClosed(true);
+	}
+
+
+	/**
+	 * Returns whether the given entry is somewhere below the given folder.
+	 * 
+	 * @param entry  the entry
+	 * @param folder the folder
+	 * @return whether the folder is an ancestor of the entry
+	 */
+	private static boolean isDescendant(SaveListEntry entry, Folder folder)
+	{
+		for (SaveListEntry current = entry; !(current instanceof RootFolder); current = current.getParent())
+		{
+			if (current.getParent() == folder)
+				return true;
+		}
+		return false;
 	}
 
 
@@ -428,7 +683,6 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	 */
 	private void deleteEntries(List<SaveListEntry> entries, boolean silent)
 	{
-		DefaultListModel<SaveListEntry> model = (DefaultListModel<SaveListEntry>) getModel();
 		for (SaveListEntry entry : entries)
 		{
 			closeDirectory(entry);
@@ -610,9 +864,7 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	{
 		entry.getParent().setClosed(false);
 		refreshList();
-		int newIndex = ((DefaultListModel<SaveListEntry>) getModel()).indexOf(entry);
-		setSelectedIndex(newIndex);
-		ensureIndexIsVisible(newIndex);
+		selectEntry(entry);
 		requestFocusInWindow();
 	}
 
@@ -639,7 +891,7 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	@Override
 	public void saveLoadFinished(Save save)
 	{
-		int newIndex = ((DefaultListModel<SaveListEntry>) getModel()).indexOf(save);
+		int newIndex = model.indexOf(save);
 		setSelectedIndex(newIndex);
 		requestFocusInWindow();
 	}
@@ -665,7 +917,7 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 					fillWith(GamesManager.getSelectedProfile(), null);
 					return;
 				}
-				fillWith(GamesManager.getSelectedProfile(), input);
+				searchInBackground(GamesManager.getSelectedProfile(), input);
 			}
 		});
 	}
@@ -687,6 +939,121 @@ public class SaveList extends JList<SaveListEntry> implements ListSelectionListe
 	}
 
 
+	@Override
+	public void entryAddedExternally(SaveListEntry entry)
+	{
+		if (!isPartOfSelectedProfile(entry))
+			return;
+		if (searchTerm != null)
+		{
+			fillWith(GamesManager.getSelectedProfile(), searchTerm);
+			return;
+		}
+		Folder parent = entry.getParent();
+		int parentIndex = model.indexOf(parent);
+		if (!(parent instanceof RootFolder) && (parent.isClosed() || parentIndex == -1))
+			return;
+		// the entry goes right behind its previous sibling and everything that is displayed below it
+		int siblingIndex = parent.getChildren().indexOf(entry);
+		int index = parentIndex + 1;
+		if (siblingIndex > 0)
+		{
+			SaveListEntry previousSibling = parent.getChildren().get(siblingIndex - 1);
+			index = model.indexOf(previousSibling) + 1 + getDisplayedDescendantCount(previousSibling);
+		}
+		model.add(index, entry);
+	}
+
+
+	@Override
+	public void entryRemovedExternally(SaveListEntry entry)
+	{
+		if (!isPartOfSelectedProfile(entry))
+			return;
+		copiedEntries.remove(entry);
+		// matches below a removed folder are listed on their own while searching
+		if (searchTerm != null)
+		{
+			fillWith(GamesManager.getSelectedProfile(), searchTerm);
+			return;
+		}
+		closeDirectory(entry);
+		model.removeElement(entry);
+	}
+
+
+	@Override
+	public void entryChangedExternally(SaveListEntry entry)
+	{
+		if (searchTerm == null && isPartOfSelectedProfile(entry) && isDisplayedOutOfOrder(entry))
+			refreshList();
+		else
+			repaintEntry(entry);
+	}
+
+
+	/**
+	 * Returns whether the given entry is displayed in another order relative to its siblings than the one they are sorted in, i.e. whether it was
+	 * moved to another position among its siblings.
+	 * 
+	 * @param entry the entry
+	 * @return whether the list has to be refilled
+	 */
+	private boolean isDisplayedOutOfOrder(SaveListEntry entry)
+	{
+		int index = model.indexOf(entry);
+		if (index == -1)
+			return false;
+		List<SaveListEntry> siblings = entry.getParent().getChildren();
+		int siblingIndex = siblings.indexOf(entry);
+		if (siblingIndex > 0 && model.indexOf(siblings.get(siblingIndex - 1)) > index)
+			return true;
+		if (siblingIndex < siblings.size() - 1)
+		{
+			int nextIndex = model.indexOf(siblings.get(siblingIndex + 1));
+			return nextIndex != -1 && nextIndex < index;
+		}
+		return false;
+	}
+
+
+	@Override
+	public void profileOutOfSync(Profile profile)
+	{
+		if (profile == GamesManager.getSelectedProfile())
+			refreshFromFileSystem(true);
+	}
+
+
+	/**
+	 * Returns whether the given entry belongs to the tree of the currently selected profile.
+	 * 
+	 * @param entry the entry
+	 * @return whether it belongs to the selected profile
+	 */
+	private boolean isPartOfSelectedProfile(SaveListEntry entry)
+	{
+		return entry.getRoot() == GamesManager.getSelectedProfile().getRoot();
+	}
+
+
+	/**
+	 * Returns the number of entries that are displayed below the given entry because it is an open folder.
+	 * 
+	 * @param entry the entry
+	 * @return the number of displayed descendants
+	 */
+	private int getDisplayedDescendantCount(SaveListEntry entry)
+	{
+		if (!(entry instanceof Folder) || ((Folder) entry).isClosed())
+			return 0;
+		int count = 0;
+		for (SaveListEntry child : entry.getChildren())
+			count += 1 + getDisplayedDescendantCount(child);
+		return count;
+	}
+
+
 	@Override
 	public void mouseClicked(MouseEvent e)
 	{
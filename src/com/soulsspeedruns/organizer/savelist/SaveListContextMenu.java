@@ -13,10 +13,12 @@ import javax.swing.JPopupMenu;
 import javax.swing.JSeparator;
 import javax.swing.KeyStroke;
 
+import com.soulsspeedruns.organizer.capture.CaptureHistoryWindow;
 import com.soulsspeedruns.organizer.main.config.SortingCategory;
 import com.soulsspeedruns.organizer.managers.GamesManager;
 import com.soulsspeedruns.organizer.managers.IconsAndFontsManager;
 import com.soulsspeedruns.organizer.managers.SavesManager;
+import com.soulsspeedruns.organizer.managers.SettingsManager;
 
 import jiconfont.icons.Elusive;
 import jiconfont.icons.FontAwesome;
@@ -46,6 +48,7 @@ public class SaveListContextMenu extends JPopupMenu
 	private JMenuItem itemReadOnly;
 	private JMenuItem itemRefresh;
 	private JMenuItem itemOpenInExplorer;
+	private JMenuItem itemCaptureHistory;
 
 	private boolean isSelectionWritable;
 
@@ -85,6 +88,7 @@ public class SaveListContextMenu extends JPopupMenu
 		itemReadOnly = createReadOnlyItem(saveList);
 		itemRefresh = createRefreshItem(saveList);
 		itemOpenInExplorer = createOpenInExplorerItem(saveList);
+		itemCaptureHistory = createCaptureHistoryItem();
 
 		add(itemAdd);
 		add(new JSeparator());
@@ -98,6 +102,8 @@ public class SaveListContextMenu extends JPopupMenu
 		add(new JSeparator());
 		add(itemRefresh);
 		add(itemOpenInExplorer);
+		if (SettingsManager.isCaptureEnabled())
+			add(itemCaptureHistory);
 	}
 
 
@@ -113,6 +119,7 @@ public class SaveListContextMenu extends JPopupMenu
 			itemAdd.setEnabled(false);
 			itemRefresh.setEnabled(false);
 			itemOpenInExplorer.setEnabled(false);
+			itemCaptureHistory.setEnabled(false);
 			itemPaste.setEnabled(false);
 		}
 		int index = saveList.locationToIndex(p);
@@ -273,6 +280,8 @@ public class SaveListContextMenu extends JPopupMenu
 					continue;
 				File file = entry.getFile();
 				file.setWritable(!isSelectionWritable);
+				entry.invalidateSortKey();
+				entry.refreshFileState();
 			}
 			if (SavesManager.getSelectedSortingCategory() == SortingCategory.READ_ONLY)
 				saveList.refreshList();
@@ -322,4 +331,12 @@ public class SaveListContextMenu extends JPopupMenu
 		return itemOpenInExplorer;
 	}
 
+
+	private JMenuItem createCaptureHistoryItem()
+	{
+		JMenuItem itemCaptureHistory = new JMenuItem("Capture History");
+		itemCaptureHistory.addActionListener(event -> new CaptureHistoryWindow(GamesManager.getSelectedProfile()));
+		return itemCaptureHistory;
+	}
+
 }
@@ -9,15 +9,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 import javax.swing.JLabel;
 import javax.swing.JList;
 
-import com.soulsspeedruns.organizer.managers.GamesManager;
+import com.soulsspeedruns.organizer.io.SaveStore;
+import com.soulsspeedruns.organizer.io.UsageIndex;
+import com.soulsspeedruns.organizer.main.config.SortingCategory;
+import com.soulsspeedruns.organizer.managers.SavesManager;
 
 
 /**
@@ -32,10 +34,17 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 {
 
 	private Folder parent;
-	private LinkedList<SaveListEntry> children;
-	private File file;
+	private final ChildList children = new ChildList();
+	// read by the FileStateSweeper and the background searches
+	private volatile File file;
 	
 	private boolean markedForCut;
+	private SortKey sortKey;
+	private UsageIndex.Usage usage;
+
+	private volatile boolean exists = true;
+	private volatile boolean writable = true;
+	private int depth;
 
 	public static final DataFlavor ENTRY_FLAVOR = new DataFlavor(SaveListEntry.class, SaveListEntry.class.getSimpleName());
 
@@ -48,7 +57,7 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	{
 		this.parent = parent;
 		this.file = file;
-		children = new LinkedList<>();
+		updateDepth();
 	}
 
 
@@ -75,17 +84,29 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 
 
 	/**
-	 * Replaces the currently associated file with the given one, and updates the associated files for all children.
+	 * Replaces the currently associated file with the given one, and updates the associated files for all loaded children.
 	 * 
 	 * @param file the new file
 	 */
 	public void setFile(File file)
 	{
 		String oldPath = getFile().getPath();
+		String oldName = getName();
 		this.file = file;
+		sortKey = null;
+		usage = null;
+		refreshFileState();
+		if (!oldName.equals(getName()))
+		{
+			if (parent != null)
+				parent.getLoadedChildren().nameChanged(this, oldName);
+			SearchIndex index = getRoot().getSearchIndexIfBuilt();
+			if (index != null)
+				index.rename(this);
+		}
 		
 		// Make sure the files of any children are updated for the new parent path
-		List<SaveListEntry> children = getChildren();
+		List<SaveListEntry> children = getLoadedChildren();
 		for (SaveListEntry child : children)
 		{
 			String childPath = child.getFile().getPath();
@@ -107,6 +128,68 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	}
 
 
+	/**
+	 * Returns the root folder of the profile this entry belongs to.
+	 * 
+	 * @return the root folder
+	 */
+	public RootFolder getRoot()
+	{
+		SaveListEntry entry = this;
+		while (!(entry instanceof RootFolder))
+			entry = entry.getParent();
+		return (RootFolder) entry;
+	}
+
+
+	/**
+	 * Returns the path of this entry relative to the root folder of its profile, using '/' as separator.
+	 * 
+	 * @return the relative path
+	 */
+	public String getRelativePath()
+	{
+		return getRelativePath(file);
+	}
+
+
+	/**
+	 * Returns the path of the given file relative to the root folder of this entry's profile, using '/' as separator.
+	 * 
+	 * @param file the file
+	 * @return the relative path
+	 */
+	protected String getRelativePath(File file)
+	{
+		String rootPath = getRoot().getFile().getPath();
+		return file.getPath().substring(Math.min(rootPath.length() + 1, file.getPath().length())).replace(File.separatorChar, '/');
+	}
+
+
+	/**
+	 * Returns how often and when this entry was loaded, as stored in the usage index of its profile.
+	 * 
+	 * @return the usage
+	 */
+	public UsageIndex.Usage getUsage()
+	{
+		if (usage == null)
+			usage = SavesManager.getUsageIndex(getRoot().getFile()).getUsage(getRelativePath());
+		return usage;
+	}
+
+
+	/**
+	 * Moves the usage of this entry and everything below it in the usage index after the entry was moved or renamed.
+	 * 
+	 * @param oldFile the file of this entry before it was moved
+	 */
+	protected void moveUsage(File oldFile)
+	{
+		SavesManager.getUsageIndex(getRoot().getFile()).move(getRelativePath(oldFile), getRelativePath(file));
+	}
+
+
 	/**
 	 * Returns the indent used for the rendering in the SaveList.
 	 * 
@@ -114,27 +197,92 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	 */
 	protected int getIndent()
 	{
-		if (parent.equals(GamesManager.getSelectedProfile().getRoot()))
-			return 0;
-		return parent.getIndent() + 20;
+		return depth * 20;
 	}
 
 
 	/**
-	 * @return the children
+	 * Updates the depth of this entry and its loaded children below the root folder after it was created or moved. Children that are loaded
+	 * later get their depth from this entry.
 	 */
-	public LinkedList<SaveListEntry> getChildren()
+	private void updateDepth()
+	{
+		depth = parent == null || parent instanceof RootFolder ? 0 : ((SaveListEntry) parent).depth + 1;
+		for (SaveListEntry child : children)
+			child.updateDepth();
+	}
+
+
+	/**
+	 * Returns whether the file of this entry existed when it was last checked. Doesn't access the file system, so it can be used while painting.
+	 * 
+	 * @return whether the file exists
+	 */
+	public boolean exists()
+	{
+		return exists;
+	}
+
+
+	/**
+	 * Returns whether the file of this entry was writable when it was last checked. Doesn't access the file system, so it can be used while
+	 * painting.
+	 * 
+	 * @return whether the file is writable
+	 */
+	public boolean isWritable()
+	{
+		return writable;
+	}
+
+
+	/**
+	 * Checks whether the file of this entry exists and is writable. Accesses the file system, so it is called by the ProfileWatcher and the
+	 * FileStateSweeper, or right after the organizer changed the file itself.
+	 * 
+	 * @return whether the state changed since it was last checked
+	 */
+	public boolean refreshFileState()
+	{
+		boolean exists = file.exists();
+		boolean writable = exists && file.canWrite();
+		boolean changed = exists != this.exists || writable != this.writable;
+		this.exists = exists;
+		this.writable = writable;
+		return changed;
+	}
+
+
+	/**
+	 * @return the children, sorted by the selected sorting category
+	 */
+	public List<SaveListEntry> getChildren()
 	{
 		return children;
 	}
 
 
 	/**
-	 * @param entry
+	 * Returns the children that have been loaded so far, without loading any that haven't been. Used where children that are not loaded yet don't
+	 * need to be considered, e.g. because they will be created from the file system with their new state once they are loaded.
+	 * 
+	 * @return the loaded children
+	 */
+	ChildList getLoadedChildren()
+	{
+		return children;
+	}
+
+
+	/**
+	 * Adds the given entry at its sorted position among the children.
+	 * 
+	 * @param entry the entry to add
 	 */
 	public void addChild(SaveListEntry entry)
 	{
-		children.add(entry);
+		children.addSorted(entry, getComparator(SavesManager.getSelectedSortingCategory()));
+		childAdded(entry);
 	}
 
 
@@ -144,6 +292,7 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	public void removeChild(SaveListEntry entry)
 	{
 		children.remove(entry);
+		childRemoved(entry);
 	}
 	
 	/**
@@ -151,18 +300,148 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	 */
 	public void clearChildren()
 	{
+		for (SaveListEntry child : children)
+			childRemoved(child);
 		children.clear();
 	}
 
 
 	/**
-	 * Sorts all children of this entry.
+	 * Adds the given new child to the search index of the profile, if it was built already.
+	 * 
+	 * @param entry the added child
+	 */
+	void childAdded(SaveListEntry entry)
+	{
+		SearchIndex index = getRoot().getSearchIndexIfBuilt();
+		if (index != null)
+			index.add(this, entry);
+	}
+
+
+	/**
+	 * Removes the given former child from the search index of the profile, if it was built already.
+	 * 
+	 * @param entry the removed child
+	 */
+	private void childRemoved(SaveListEntry entry)
+	{
+		SearchIndex index = getRoot().getSearchIndexIfBuilt();
+		if (index != null)
+			index.remove(entry);
+	}
+
+
+	/**
+	 * Returns the values this entry is sorted by. They are read from the file system the first time they are needed after the file changed.
+	 * 
+	 * @return the sort key
+	 */
+	public SortKey getSortKey()
+	{
+		if (sortKey == null)
+			setSortKey(SortKey.read(file));
+		return sortKey;
+	}
+
+
+	/**
+	 * Returns the sort key if it was read already, without touching the file system.
+	 * 
+	 * @return the sort key, or null if it wasn't read yet or was invalidated
+	 */
+	SortKey getCachedSortKey()
+	{
+		return sortKey;
+	}
+
+
+	/**
+	 * Sets the sort key from attributes that were read already, e.g. while scanning the profile.
+	 * 
+	 * @param sortKey the sort key
+	 */
+	void setSortKey(SortKey sortKey)
+	{
+		this.sortKey = sortKey;
+		// reading the attributes checked whether the file is writable as well
+		writable = sortKey.isWritable();
+	}
+
+
+	/**
+	 * Drops the sort key, so it is read again the next time it is needed. Has to be called whenever the file changes in a way that affects
+	 * sorting, e.g. when its read-only state was switched.
+	 */
+	public void invalidateSortKey()
+	{
+		sortKey = null;
+	}
+
+
+	/**
+	 * Drops the sort key and moves this entry to its sorted position among the loaded children of its parent, after its file changed in a way
+	 * that may affect sorting, e.g. outside of the organizer. Has to be called on the event dispatch thread.
+	 * 
+	 * @return whether the position of the entry among its siblings changed
+	 */
+	boolean updateSortPosition()
+	{
+		invalidateSortKey();
+		if (parent == null)
+			return false;
+		ChildList siblings = parent.getLoadedChildren();
+		int index = siblings.indexOf(this);
+		if (index == -1)
+			return false;
+		siblings.remove(index);
+		return siblings.addSorted(this, getComparator(SavesManager.getSelectedSortingCategory())) != index;
+	}
+
+
+	/**
+	 * Returns a comparator that sorts folders before saves and both by the given category.
+	 * 
+	 * @param category the sorting category
+	 * @return the comparator
+	 */
+	public static Comparator<SaveListEntry> getComparator(SortingCategory category)
+	{
+		return (e1, e2) -> {
+			boolean isFolder = e1 instanceof Folder;
+			if (isFolder != e2 instanceof Folder)
+				return isFolder ? -1 : 1;
+			return category.compare(e1, e2);
+		};
+	}
+
+
+	@Override
+	public int compareTo(SaveListEntry entry)
+	{
+		return getComparator(SavesManager.getSelectedSortingCategory()).compare(this, entry);
+	}
+
+
+	/**
+	 * Sorts all loaded children of this entry by the selected sorting category. Children that are loaded later are sorted when they are loaded.
 	 */
 	public void sort()
 	{
-		Collections.sort(children);
+		sort(getComparator(SavesManager.getSelectedSortingCategory()));
+	}
+
+
+	/**
+	 * Sorts all loaded children of this entry with the given comparator.
+	 * 
+	 * @param comparator the comparator
+	 */
+	private void sort(Comparator<SaveListEntry> comparator)
+	{
+		children.sort(comparator);
 		for (SaveListEntry entry : children)
-			entry.sort();
+			entry.sort(comparator);
 	}
 
 	
@@ -177,12 +456,19 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 		String parentPath = newParent.getFile().getPath();
 		File newFile = new File(parentPath + File.separator + getName());
 		
-		Files.move(Paths.get(getFile().getPath()), Paths.get(newFile.getPath()), StandardCopyOption.REPLACE_EXISTING);
+		File oldFile = getFile();
+		// savefiles that are rewritten in the background must not reappear under the old path
+		synchronized (SaveStore.getFileLock())
+		{
+			Files.move(Paths.get(getFile().getPath()), Paths.get(newFile.getPath()), StandardCopyOption.REPLACE_EXISTING);
+		}
 		setFile(newFile);
+		moveUsage(oldFile);
 		
 		parent.removeChild(this);
 		newParent.addChild(this);
 		parent = newParent;
+		updateDepth();
 	}
 
 
@@ -213,12 +499,9 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	 */
 	public SaveListEntry getChildByName(String name)
 	{
-		for (SaveListEntry child : children)
-		{
-			if (child.getName().equals(name))
-				return child;
-		}
-		return null;
+		// makes sure the children of a folder are loaded
+		getChildren();
+		return children.getByName(name);
 	}
 
 
@@ -232,7 +515,7 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 	{
 		if (getName().toLowerCase().contains(searchTerm.toLowerCase()))
 			return true;
-		for (SaveListEntry entry : children)
+		for (SaveListEntry entry : getChildren())
 		{
 			if (entry.matchesSearchTerm(searchTerm))
 				return true;
@@ -271,7 +554,7 @@ public abstract class SaveListEntry implements Comparable<SaveListEntry>, Transf
 
 
 	/**
-	 * Marks this entry as part of a cut/paste operation.
+	 * Marks this entry and its loaded children as part of a cut/paste operation. Children loaded later inherit the mark.
 	 * 
 	 * @param markedForCut whether the entry is marked for a cut operation
 	 */
@@ -0,0 +1,191 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.AbstractListModel;
+
+
+/**
+ * SaveListModel.
+ * <p>
+ * The rows displayed by the save list. Changes are made in batches, each of them firing as few events as possible, so the list only has to
+ * update its layout once instead of once per row. Rows are compared by identity, since the list shows the entries of the tree in memory.
+ * <p>
+ * The row of each entry is kept in an index, so entries can be located without scanning the list. Rows only shift behind the position of a
+ * change, so the index is only updated from the first changed row to the end, and only once the next entry is looked up.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SaveListModel extends AbstractListModel<SaveListEntry>
+{
+
+	private final List<SaveListEntry> rows = new ArrayList<>();
+	private final Map<SaveListEntry, Integer> rowIndex = new IdentityHashMap<>();
+	private int indexedRows;
+
+
+	@Override
+	public int getSize()
+	{
+		return rows.size();
+	}
+
+
+	@Override
+	public SaveListEntry getElementAt(int index)
+	{
+		return rows.get(index);
+	}
+
+
+	/**
+	 * Returns the index of the given entry.
+	 *
+	 * @param entry the entry
+	 * @return the index, or -1 if the entry is not displayed
+	 */
+	public int indexOf(SaveListEntry entry)
+	{
+		Integer index = rowIndex.get(entry);
+		if (index != null && index < indexedRows)
+			return index;
+		if (indexedRows == rows.size())
+			return -1;
+		for (int i = indexedRows; i < rows.size(); i++)
+			rowIndex.put(rows.get(i), i);
+		indexedRows = rows.size();
+		index = rowIndex.get(entry);
+		return index != null ? index : -1;
+	}
+
+
+	/**
+	 * Returns whether the given entry is displayed.
+	 *
+	 * @param entry the entry
+	 * @return whether the entry is displayed
+	 */
+	public boolean contains(SaveListEntry entry)
+	{
+		return indexOf(entry) != -1;
+	}
+
+
+	/**
+	 * Inserts the given entry at the given index.
+	 *
+	 * @param index the index
+	 * @param entry the entry
+	 */
+	public void add(int index, SaveListEntry entry)
+	{
+		rows.add(index, entry);
+		invalidateIndexFrom(index);
+		fireIntervalAdded(this, index, index);
+	}
+
+
+	/**
+	 * Inserts the given entries at the given index.
+	 *
+	 * @param index   the index of the first entry
+	 * @param entries the entries
+	 */
+	public void addAll(int index, List<? extends SaveListEntry> entries)
+	{
+		if (entries.isEmpty())
+			return;
+		rows.addAll(index, entries);
+		invalidateIndexFrom(index);
+		fireIntervalAdded(this, index, index + entries.size() - 1);
+	}
+
+
+	/**
+	 * Removes the rows between the given indices.
+	 *
+	 * @param fromIndex the index of the first row to remove
+	 * @param toIndex   the index after the last row to remove
+	 */
+	public void removeRange(int fromIndex, int toIndex)
+	{
+		if (fromIndex >= toIndex)
+			return;
+		List<SaveListEntry> removed = rows.subList(fromIndex, toIndex);
+		for (SaveListEntry entry : removed)
+			rowIndex.remove(entry);
+		removed.clear();
+		invalidateIndexFrom(fromIndex);
+		fireIntervalRemoved(this, fromIndex, toIndex - 1);
+	}
+
+
+	/**
+	 * Removes the given entry.
+	 *
+	 * @param entry the entry
+	 * @return whether the entry was displayed
+	 */
+	public boolean removeElement(SaveListEntry entry)
+	{
+		int index = indexOf(entry);
+		if (index == -1)
+			return false;
+		removeRange(index, index + 1);
+		return true;
+	}
+
+
+	/**
+	 * Replaces all rows with the given ones. Only the part between the rows both lists start and end with is changed, which is reported as a
+	 * single change of the rows that got replaced, followed by a single insertion or removal for the difference in size.
+	 *
+	 * @param newRows the new rows
+	 */
+	public void setRows(List<SaveListEntry> newRows)
+	{
+		int oldSize = rows.size();
+		int newSize = newRows.size();
+		int prefix = 0;
+		int maxCommon = Math.min(oldSize, newSize);
+		while (prefix < maxCommon && rows.get(prefix) == newRows.get(prefix))
+			prefix++;
+		int suffix = 0;
+		while (suffix < maxCommon - prefix && rows.get(oldSize - suffix - 1) == newRows.get(newSize - suffix - 1))
+			suffix++;
+		int oldMiddle = oldSize - prefix - suffix;
+		int newMiddle = newSize - prefix - suffix;
+		if (oldMiddle == 0 && newMiddle == 0)
+			return;
+
+		List<SaveListEntry> middle = rows.subList(prefix, prefix + oldMiddle);
+		for (SaveListEntry entry : middle)
+			rowIndex.remove(entry);
+		middle.clear();
+		middle.addAll(newRows.subList(prefix, prefix + newMiddle));
+		invalidateIndexFrom(prefix);
+
+		int changed = Math.min(oldMiddle, newMiddle);
+		if (changed > 0)
+			fireContentsChanged(this, prefix, prefix + changed - 1);
+		if (newMiddle > changed)
+			fireIntervalAdded(this, prefix + changed, prefix + newMiddle - 1);
+		else if (oldMiddle > changed)
+			fireIntervalRemoved(this, prefix + changed, prefix + oldMiddle - 1);
+	}
+
+
+	/**
+	 * Marks the indexed rows starting at the given one as outdated.
+	 */
+	private void invalidateIndexFrom(int index)
+	{
+		indexedRows = Math.min(indexedRows, index);
+	}
+
+}
@@ -2,6 +2,7 @@ package com.soulsspeedruns.organizer.savelist;
 
 import java.awt.Component;
 
+import javax.swing.BorderFactory;
 import javax.swing.DefaultListCellRenderer;
 import javax.swing.JLabel;
 import javax.swing.JList;
@@ -18,6 +19,13 @@ public class SaveListRenderer implements ListCellRenderer<SaveListEntry>
 	{
 		JLabel label = (JLabel) defaultRenderer.getListCellRendererComponent(list, entry, index, isSelected, cellHasFocus);
 		entry.render(list, index, label);
+		SearchMatch match = list instanceof SaveList ? ((SaveList) list).getSearchMatch(entry) : null;
+		if (match != null)
+		{
+			// fuzzy search results are a flat list, so the path is shown instead of the indent
+			label.setText(match.toHtml(entry.getRelativePath()));
+			label.setBorder(BorderFactory.createEmptyBorder(1, 3, 0, 1));
+		}
 		
 		return label;
 	}
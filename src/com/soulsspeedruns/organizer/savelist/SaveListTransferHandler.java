@@ -4,7 +4,6 @@ package com.soulsspeedruns.organizer.savelist;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import javax.swing.DefaultListModel;
 import javax.swing.DropMode;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
@@ -86,14 +85,14 @@ public class SaveListTransferHandler extends TransferHandler
 						JOptionPane.YES_NO_OPTION) != 0)
 					return false;
 				SaveListEntry existingEntry = newParentFolder.getChildByName(entry.getName());
-				((DefaultListModel<SaveListEntry>) saveList.getModel()).removeElement(existingEntry);
+				((SaveListModel) saveList.getModel()).removeElement(existingEntry);
 				existingEntry.delete();
 			}
 			
 			entry.moveToNewParent(newParentFolder);
 			newParentFolder.setClosed(false);
 			saveList.refreshList();
-			saveList.setSelectedValue(entry, true);
+			saveList.selectEntry(entry);
 		}
 		catch (Exception e)
 		{
@@ -0,0 +1,301 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * SearchIndex.
+ * <p>
+ * Index of the names of all entries of a profile for searching the save list. Names are case-folded once when they are added, and every
+ * sequence of three characters in them is mapped to the entries containing it, so a search only has to check the entries that contain all
+ * trigrams of the search term. The index is built from the complete tree the first time a profile is searched and kept up to date as entries
+ * are added, renamed and removed.
+ * <p>
+ * For fuzzy searches the saves are ranked by how well their whole path matches the tokens of the query. While a query is being typed, each
+ * search only considers the saves that matched the previous one.
+ * <p>
+ * Searches run on a background thread, so the index keeps its own snapshot of the name, path and parent of every entry, taken on the event
+ * dispatch thread whenever entries are added, renamed or removed. A search never touches the entries themselves apart from returning them.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SearchIndex
+{
+
+	private final Map<SaveListEntry, Node> nodes = new IdentityHashMap<>();
+	private final Map<Long, Set<SaveListEntry>> trigrams = new HashMap<>();
+	private final FuzzyMatcher matcher = new FuzzyMatcher();
+	private int modificationCount;
+
+	private String previousQuery;
+	private List<Node> previousMatches;
+	private int previousModificationCount;
+
+
+	/**
+	 * Creates the index for the given root folder. Loads all of its children that aren't loaded yet.
+	 *
+	 * @param root the root folder of the profile
+	 */
+	SearchIndex(RootFolder root)
+	{
+		for (SaveListEntry child : root.getChildren())
+			add(root, child);
+	}
+
+
+	/**
+	 * Adds the given entry and everything below it.
+	 *
+	 * @param parent the folder the entry was added to
+	 * @param entry  the entry to add
+	 */
+	synchronized void add(SaveListEntry parent, SaveListEntry entry)
+	{
+		modificationCount++;
+		Node node = new Node(entry, nodes.get(parent));
+		Node previous = nodes.put(entry, node);
+		if (previous != null)
+			removeTrigrams(entry, previous.name);
+		addTrigrams(entry, node.name);
+		for (SaveListEntry child : entry.getChildren())
+			add(entry, child);
+	}
+
+
+	/**
+	 * Removes the given entry and everything below it.
+	 *
+	 * @param entry the entry to remove
+	 */
+	synchronized void remove(SaveListEntry entry)
+	{
+		modificationCount++;
+		Node node = nodes.remove(entry);
+		if (node != null)
+			removeTrigrams(entry, node.name);
+		for (SaveListEntry child : entry.getLoadedChildren())
+			remove(child);
+	}
+
+
+	/**
+	 * Updates the name of the given entry after it was renamed, and the paths of everything below it.
+	 *
+	 * @param entry the renamed entry
+	 */
+	synchronized void rename(SaveListEntry entry)
+	{
+		Node node = nodes.get(entry);
+		if (node == null)
+			return;
+		modificationCount++;
+		removeTrigrams(entry, node.name);
+		node = new Node(entry, node.parent);
+		nodes.put(entry, node);
+		addTrigrams(entry, node.name);
+		updatePaths(node);
+	}
+
+
+	/**
+	 * Replaces the snapshots of everything below the given node, since their paths include the name of the node.
+	 */
+	private void updatePaths(Node parent)
+	{
+		for (SaveListEntry child : parent.entry.getLoadedChildren())
+		{
+			if (!nodes.containsKey(child))
+				continue;
+			Node node = new Node(child, parent);
+			nodes.put(child, node);
+			updatePaths(node);
+		}
+	}
+
+
+	/**
+	 * Returns the entries whose name contains the given search term, ignoring case, along with all of their parent folders.
+	 *
+	 * @param searchTerm the search term
+	 * @return the matching entries and their parents
+	 */
+	public synchronized Set<SaveListEntry> search(String searchTerm)
+	{
+		Set<SaveListEntry> result = Collections.newSetFromMap(new IdentityHashMap<>());
+		String term = SortKey.foldName(searchTerm);
+		if (term.isEmpty())
+			return result;
+		for (SaveListEntry candidate : getCandidates(term))
+		{
+			Node node = nodes.get(candidate);
+			if (node.name.contains(term))
+				addWithParents(node, result);
+		}
+		return result;
+	}
+
+
+	/**
+	 * Returns the saves whose path relative to the profile matches all tokens of the given query, best matches first.
+	 *
+	 * @param query the query
+	 * @return the matches
+	 */
+	public synchronized List<SearchMatch> searchRanked(String query)
+	{
+		String foldedQuery = SortKey.foldName(query).trim();
+		String[] tokens = FuzzyMatcher.tokenize(foldedQuery);
+		List<SearchMatch> matches = new ArrayList<>();
+		if (tokens.length == 0)
+			return matches;
+		Collection<Node> candidates = canNarrowPreviousSearch(foldedQuery, tokens) ? previousMatches : nodes.values();
+		List<Node> matchedNodes = new ArrayList<>();
+		for (Node candidate : candidates)
+		{
+			if (!candidate.isSave)
+				continue;
+			SearchMatch match = matcher.match(candidate.entry, candidate.path, tokens);
+			if (match != null)
+			{
+				matches.add(match);
+				matchedNodes.add(candidate);
+			}
+		}
+		Map<SaveListEntry, String> paths = new IdentityHashMap<>();
+		for (Node node : matchedNodes)
+			paths.put(node.entry, node.path);
+		matches.sort((m1, m2) -> {
+			if (m1.getScore() != m2.getScore())
+				return Integer.compare(m2.getScore(), m1.getScore());
+			String path1 = paths.get(m1.getEntry());
+			String path2 = paths.get(m2.getEntry());
+			if (path1.length() != path2.length())
+				return Integer.compare(path1.length(), path2.length());
+			return path1.compareTo(path2);
+		});
+
+		previousQuery = foldedQuery;
+		previousMatches = matchedNodes;
+		previousModificationCount = modificationCount;
+		return matches;
+	}
+
+
+	/**
+	 * Returns whether the saves matching the given query are a subset of the ones that matched the previous query. That is the case if the
+	 * query only extends the previous one while typing, no token got long enough to allow more typos, and no entries changed in between.
+	 */
+	private boolean canNarrowPreviousSearch(String foldedQuery, String[] tokens)
+	{
+		if (previousQuery == null || previousModificationCount != modificationCount || !foldedQuery.startsWith(previousQuery))
+			return false;
+		String[] previousTokens = FuzzyMatcher.tokenize(previousQuery);
+		for (int i = 0; i < previousTokens.length; i++)
+		{
+			if (FuzzyMatcher.getMaxEdits(previousTokens[i].length()) != FuzzyMatcher.getMaxEdits(tokens[i].length()))
+				return false;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Returns the entries that may contain the given folded search term, i.e. the ones that contain the least common of its trigrams.
+	 *
+	 * @param term the folded search term
+	 * @return the candidates
+	 */
+	private Set<SaveListEntry> getCandidates(String term)
+	{
+		if (term.length() < 3)
+			return nodes.keySet();
+		Set<SaveListEntry> candidates = null;
+		for (int i = 0; i + 3 <= term.length(); i++)
+		{
+			Set<SaveListEntry> entries = trigrams.get(getTrigram(term, i));
+			if (entries == null)
+				return Collections.emptySet();
+			if (candidates == null || entries.size() < candidates.size())
+				candidates = entries;
+		}
+		return candidates;
+	}
+
+
+	/**
+	 * Adds the entry of the given node and its parent folders below the root to the given set.
+	 */
+	private static void addWithParents(Node node, Set<SaveListEntry> result)
+	{
+		while (node != null && result.add(node.entry))
+			node = node.parent;
+	}
+
+
+	private void addTrigrams(SaveListEntry entry, String name)
+	{
+		for (int i = 0; i + 3 <= name.length(); i++)
+			trigrams.computeIfAbsent(getTrigram(name, i), key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry);
+	}
+
+
+	private void removeTrigrams(SaveListEntry entry, String name)
+	{
+		for (int i = 0; i + 3 <= name.length(); i++)
+		{
+			Long trigram = getTrigram(name, i);
+			Set<SaveListEntry> entries = trigrams.get(trigram);
+			if (entries != null && entries.remove(entry) && entries.isEmpty())
+				trigrams.remove(trigram);
+		}
+	}
+
+
+	/**
+	 * Packs the three characters of the given string starting at the given index into a single key.
+	 */
+	private static long getTrigram(String name, int index)
+	{
+		return (long) name.charAt(index) << 32 | (long) name.charAt(index + 1) << 16 | name.charAt(index + 2);
+	}
+
+
+	/**
+	 * Snapshot of what searches need to know about an entry, taken on the event dispatch thread.
+	 */
+	private static final class Node
+	{
+
+		private final SaveListEntry entry;
+		private final Node parent;
+		private final boolean isSave;
+		private final String name;
+		private final String path;
+
+
+		/**
+		 * @param entry  the entry
+		 * @param parent the node of the parent folder, or null if the entry is directly below the root folder
+		 */
+		private Node(SaveListEntry entry, Node parent)
+		{
+			this.entry = entry;
+			this.parent = parent;
+			isSave = entry instanceof Save;
+			name = SortKey.foldName(entry.getName());
+			path = parent == null ? name : parent.path + "/" + name;
+		}
+
+	}
+
+}
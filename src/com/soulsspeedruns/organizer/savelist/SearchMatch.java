@@ -0,0 +1,94 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+/**
+ * SearchMatch.
+ * <p>
+ * A save found by a fuzzy search, along with how well it matched and which characters of its path relative to the profile matched.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class SearchMatch
+{
+
+	private final SaveListEntry entry;
+	private final int score;
+	private final int[] ranges;
+
+
+	/**
+	 * Creates a new SearchMatch.
+	 *
+	 * @param entry  the matched entry
+	 * @param score  how well the entry matched, higher is better
+	 * @param ranges the matched ranges of the relative path as pairs of start (inclusive) and end (exclusive), sorted and not overlapping
+	 */
+	SearchMatch(SaveListEntry entry, int score, int[] ranges)
+	{
+		this.entry = entry;
+		this.score = score;
+		this.ranges = ranges;
+	}
+
+
+	/**
+	 * @return the matched entry
+	 */
+	public SaveListEntry getEntry()
+	{
+		return entry;
+	}
+
+
+	/**
+	 * @return how well the entry matched, higher is better
+	 */
+	public int getScore()
+	{
+		return score;
+	}
+
+
+	/**
+	 * Returns the given path as HTML with the matched ranges highlighted.
+	 *
+	 * @param path the path of the entry relative to its profile
+	 * @return the HTML text
+	 */
+	public String toHtml(String path)
+	{
+		StringBuilder html = new StringBuilder(path.length() + 32).append("<html>");
+		int position = 0;
+		for (int i = 0; i + 1 < ranges.length; i += 2)
+		{
+			int start = Math.min(ranges[i], path.length());
+			int end = Math.min(ranges[i + 1], path.length());
+			appendEscaped(html, path, position, start);
+			html.append("<b>");
+			appendEscaped(html, path, start, end);
+			html.append("</b>");
+			position = end;
+		}
+		appendEscaped(html, path, position, path.length());
+		return html.append("</html>").toString();
+	}
+
+
+	private static void appendEscaped(StringBuilder html, String text, int start, int end)
+	{
+		for (int i = start; i < end; i++)
+		{
+			char c = text.charAt(i);
+			if (c == '<')
+				html.append("&lt;");
+			else if (c == '>')
+				html.append("&gt;");
+			else if (c == '&')
+				html.append("&amp;");
+			else
+				html.append(c);
+		}
+	}
+
+}
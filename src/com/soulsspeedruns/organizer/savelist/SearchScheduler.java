@@ -0,0 +1,117 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+
+/**
+ * SearchScheduler.
+ * <p>
+ * Runs the searches of the save list on a background thread. Every search gets a generation number, and a search only delivers its result if
+ * no newer search was requested and no cancel happened in the meantime. Searches that were superseded before they started don't run at all, so
+ * typing quickly never queues up work on the event dispatch thread.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+class SearchScheduler
+{
+
+	private final AtomicLong generation = new AtomicLong();
+	private final ThreadPoolExecutor executor;
+
+
+	/**
+	 * Creates a new SearchScheduler.
+	 */
+	SearchScheduler()
+	{
+		executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "Save List Search");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+
+	/**
+	 * Searches the given profile in the background. Has to be called on the event dispatch thread, since the search index is built here the
+	 * first time, which loads the complete tree.
+	 *
+	 * @param root       the root folder of the profile to search
+	 * @param searchTerm the search term
+	 * @param fuzzy      whether to run a fuzzy search
+	 * @param onResult   called on the event dispatch thread with the result, unless the search was superseded
+	 */
+	void submit(RootFolder root, String searchTerm, boolean fuzzy, Consumer<Result> onResult)
+	{
+		long searchGeneration = generation.incrementAndGet();
+		SearchIndex index = root.getSearchIndex();
+		executor.execute(() -> {
+			if (searchGeneration != generation.get())
+				return;
+			Result result = fuzzy ? new Result(null, index.searchRanked(searchTerm)) : new Result(index.search(searchTerm), null);
+			if (searchGeneration != generation.get())
+				return;
+			SwingUtilities.invokeLater(() -> {
+				if (searchGeneration == generation.get())
+					onResult.accept(result);
+			});
+		});
+	}
+
+
+	/**
+	 * Drops the results of all searches that were requested so far.
+	 */
+	void cancel()
+	{
+		generation.incrementAndGet();
+	}
+
+
+	/**
+	 * The result of a search, either the matching entries along with their parents, or the ranked matches of a fuzzy search.
+	 */
+	static class Result
+	{
+
+		private final Set<SaveListEntry> matches;
+		private final List<SearchMatch> rankedMatches;
+
+
+		private Result(Set<SaveListEntry> matches, List<SearchMatch> rankedMatches)
+		{
+			this.matches = matches;
+			this.rankedMatches = rankedMatches;
+		}
+
+
+		/**
+		 * @return the matching entries and their parents, or null for a fuzzy search
+		 */
+		Set<SaveListEntry> getMatches()
+		{
+			return matches;
+		}
+
+
+		/**
+		 * @return the ranked matches of a fuzzy search, or null
+		 */
+		List<SearchMatch> getRankedMatches()
+		{
+			return rankedMatches;
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.soulsspeedruns.organizer.savelist;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import com.soulsspeedruns.organizer.io.FileAttributes;
+import com.soulsspeedruns.organizer.io.SaveStore;
+
+
+/**
+ * SortKey.
+ * <p>
+ * The values of an entry that the sorting categories compare by, read from the file system all at once. Entries keep their key until the file
+ * changes, so sorting doesn't touch the file system for every single comparison.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public final class SortKey
+{
+
+	private final String foldedName;
+	private final long creationTime;
+	private final long lastModifiedTime;
+	private final long size;
+	private final boolean writable;
+
+
+	private SortKey(String name, long creationTime, long lastModifiedTime, long size, boolean writable)
+	{
+		this.foldedName = foldName(name);
+		this.creationTime = creationTime;
+		this.lastModifiedTime = lastModifiedTime;
+		this.size = size;
+		this.writable = writable;
+	}
+
+
+	/**
+	 * Reads the sort key of the given file.
+	 *
+	 * @param file the file
+	 * @return the sort key, with times and size of 0 if the attributes could not be read
+	 */
+	public static SortKey read(File file)
+	{
+		try
+		{
+			return of(file, FileAttributes.read(file.toPath()));
+		}
+		catch (IOException e)
+		{
+			return new SortKey(file.getName(), 0, 0, 0, file.canWrite());
+		}
+	}
+
+
+	/**
+	 * Creates the sort key of the given file from attributes that were read already. Reads the beginning of a savefile for the size of the save it
+	 * holds.
+	 *
+	 * @param file       the file
+	 * @param attributes its attributes, as returned by {@link FileAttributes#read(java.nio.file.Path)}
+	 * @return the sort key
+	 */
+	public static SortKey of(File file, BasicFileAttributes attributes)
+	{
+		return new SortKey(file.getName(), attributes.creationTime().toMillis(), attributes.lastModifiedTime().toMillis(),
+				attributes.isDirectory() ? 0 : SaveStore.readSaveSize(file, attributes.size()), FileAttributes.isWritable(file, attributes));
+	}
+
+
+	/**
+	 * Folds the given name so that comparing folded names gives the same order as String.compareToIgnoreCase.
+	 *
+	 * @param name the name
+	 * @return the folded name
+	 */
+	static String foldName(String name)
+	{
+		char[] chars = name.toCharArray();
+		for (int i = 0; i < chars.length; i++)
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		return new String(chars);
+	}
+
+
+	/**
+	 * @return the name, folded for case insensitive comparisons
+	 */
+	public String getFoldedName()
+	{
+		return foldedName;
+	}
+
+
+	/**
+	 * @return the creation time in milliseconds
+	 */
+	public long getCreationTime()
+	{
+		return creationTime;
+	}
+
+
+	/**
+	 * @return the last modified time in milliseconds
+	 */
+	public long getLastModifiedTime()
+	{
+		return lastModifiedTime;
+	}
+
+
+	/**
+	 * @return the size of the save in bytes, uncompressed even if the savefile is a reference or compressed, 0 for directories
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+
+	/**
+	 * @return whether the file was writable
+	 */
+	public boolean isWritable()
+	{
+		return writable;
+	}
+
+}
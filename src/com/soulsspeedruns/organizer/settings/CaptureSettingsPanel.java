@@ -0,0 +1,100 @@
+package com.soulsspeedruns.organizer.settings;
+
+
+import java.awt.Component;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.GroupLayout;
+import javax.swing.GroupLayout.Alignment;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.border.EtchedBorder;
+import javax.swing.border.TitledBorder;
+
+import com.soulsspeedruns.organizer.managers.SettingsManager;
+
+
+/**
+ * CaptureSettingsPanel
+ * <p>
+ * Contains settings related to capturing the states the game writes to the gamefile.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class CaptureSettingsPanel extends JPanel
+{
+
+	private static final int MAX_HISTORY_SIZE = 500;
+	private static final int MAX_HISTORY_BUDGET = 16384;
+
+	private JCheckBox captureCheckbox;
+	private JSpinner historySizeSpinner;
+	private JSpinner historyBudgetSpinner;
+
+
+	/**
+	 * Creates a new capture settings panel.
+	 */
+	protected CaptureSettingsPanel()
+	{
+		GroupLayout layout = new GroupLayout(this);
+		layout.setAutoCreateGaps(true);
+		layout.setAutoCreateContainerGaps(true);
+
+		Component glue = Box.createHorizontalGlue();
+
+		JLabel captureLabel = new JLabel("Capture Gamefile:");
+		captureLabel.setToolTipText(
+				"Keeps a history of every state the game writes to the gamefile, which can be turned into savestates later through the context menu of the list.");
+		captureCheckbox = new JCheckBox("", SettingsManager.isCaptureEnabled());
+
+		JLabel historySizeLabel = new JLabel("History Size:");
+		historySizeLabel.setToolTipText("How many captured states are kept per profile before the oldest ones are deleted.");
+		historySizeSpinner = new JSpinner(new SpinnerNumberModel(SettingsManager.getCaptureHistorySize(), 1, MAX_HISTORY_SIZE, 5));
+
+		JLabel historyBudgetLabel = new JLabel("History Budget (MB):");
+		historyBudgetLabel.setToolTipText("How much disk space the captured states of a profile may take up before the oldest ones are deleted.");
+		historyBudgetSpinner = new JSpinner(new SpinnerNumberModel(SettingsManager.getCaptureHistoryBudget(), 1, MAX_HISTORY_BUDGET, 64));
+
+		// Horizontal
+		GroupLayout.SequentialGroup hGroup = layout.createSequentialGroup();
+
+		hGroup.addGroup(layout.createParallelGroup().addComponent(captureLabel).addComponent(historySizeLabel).addComponent(historyBudgetLabel));
+		hGroup.addGroup(layout.createParallelGroup().addComponent(glue));
+		hGroup.addGroup(layout.createParallelGroup(Alignment.TRAILING).addComponent(captureCheckbox).addComponent(historySizeSpinner)
+				.addComponent(historyBudgetSpinner));
+
+		layout.setHorizontalGroup(hGroup);
+
+		// Vertical
+		GroupLayout.SequentialGroup vGroup = layout.createSequentialGroup();
+
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(glue));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(captureLabel).addComponent(captureCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(historySizeLabel).addComponent(historySizeSpinner));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(historyBudgetLabel).addComponent(historyBudgetSpinner));
+
+		layout.setVerticalGroup(vGroup);
+
+		setLayout(layout);
+		TitledBorder border = BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(EtchedBorder.LOWERED), "Capture");
+		setBorder(border);
+	}
+
+
+	/**
+	 * Applies the changes to the settings to the program.
+	 */
+	protected void applyChanges()
+	{
+		SettingsManager.setCaptureHistorySize((Integer) historySizeSpinner.getValue());
+		SettingsManager.setCaptureHistoryBudget((Integer) historyBudgetSpinner.getValue());
+		SettingsManager.setCaptureEnabled(captureCheckbox.isSelected());
+	}
+
+}
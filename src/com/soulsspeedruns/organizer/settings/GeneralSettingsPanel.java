@@ -37,6 +37,7 @@ public class GeneralSettingsPanel extends JPanel
 	private JCheckBox doubleClickLoadCheckbox;
 	private JCheckBox checkForUpdatesCheckbox;
 	private JCheckBox compactModeCheckbox;
+	private JCheckBox fuzzySearchCheckbox;
 	private JComboBox<Theme> themeCombobox;
 
 
@@ -73,13 +74,17 @@ public class GeneralSettingsPanel extends JPanel
 		JLabel compactModeLabel = new JLabel("Compact Mode:");
 		compactModeLabel.setToolTipText("Reduces the size of buttons in the main window and allows a smaller window size.");
 		compactModeCheckbox = new JCheckBox("", SettingsManager.isCompactModeEnabled());
+		
+		JLabel fuzzySearchLabel = new JLabel("Fuzzy Search:");
+		fuzzySearchLabel.setToolTipText("Searching lists the best matching savestates by their full path, tolerating typos and abbreviations.");
+		fuzzySearchCheckbox = new JCheckBox("", SettingsManager.isFuzzySearchEnabled());
 
 		// Horizontal
 		GroupLayout.SequentialGroup hGroup = layout.createSequentialGroup();
 
-		hGroup.addGroup(layout.createParallelGroup().addComponent(hotkeysLabel).addComponent(alwaysOnTopLabel).addComponent(doubleClickLoadLabel).addComponent(checkForUpdatesLabel).addComponent(compactModeLabel).addComponent(themeLabel));
+		hGroup.addGroup(layout.createParallelGroup().addComponent(hotkeysLabel).addComponent(alwaysOnTopLabel).addComponent(doubleClickLoadLabel).addComponent(checkForUpdatesLabel).addComponent(compactModeLabel).addComponent(fuzzySearchLabel).addComponent(themeLabel));
 		hGroup.addGroup(layout.createParallelGroup().addComponent(glue));
-		hGroup.addGroup(layout.createParallelGroup(Alignment.TRAILING).addComponent(hotkeysCheckbox).addComponent(alwaysOnTopCheckbox).addComponent(doubleClickLoadCheckbox).addComponent(checkForUpdatesCheckbox).addComponent(compactModeCheckbox).addComponent(themeCombobox));
+		hGroup.addGroup(layout.createParallelGroup(Alignment.TRAILING).addComponent(hotkeysCheckbox).addComponent(alwaysOnTopCheckbox).addComponent(doubleClickLoadCheckbox).addComponent(checkForUpdatesCheckbox).addComponent(compactModeCheckbox).addComponent(fuzzySearchCheckbox).addComponent(themeCombobox));
 
 		layout.setHorizontalGroup(hGroup);
 
@@ -93,6 +98,7 @@ public class GeneralSettingsPanel extends JPanel
 		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(hotkeysLabel).addComponent(hotkeysCheckbox));
 		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(compactModeLabel).addComponent(compactModeCheckbox));
 		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(doubleClickLoadLabel).addComponent(doubleClickLoadCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(fuzzySearchLabel).addComponent(fuzzySearchCheckbox));
 
 		layout.setVerticalGroup(vGroup);
 
@@ -136,6 +142,7 @@ public class GeneralSettingsPanel extends JPanel
 		SettingsManager.setDoubleClickLoadEnabled(doubleClickLoadCheckbox.isSelected());
 		SettingsManager.setCheckForUpdatesEnabled(checkForUpdatesCheckbox.isSelected());
 		SettingsManager.setCompactModeEnabled(compactModeCheckbox.isSelected());
+		SettingsManager.setFuzzySearchEnabled(fuzzySearchCheckbox.isSelected());
 	}
 
 }
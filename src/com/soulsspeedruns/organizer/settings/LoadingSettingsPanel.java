@@ -0,0 +1,140 @@
+package com.soulsspeedruns.organizer.settings;
+
+
+import java.awt.Component;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.GroupLayout;
+import javax.swing.GroupLayout.Alignment;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.border.EtchedBorder;
+import javax.swing.border.TitledBorder;
+
+import com.soulsspeedruns.organizer.io.LoadMetrics;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+import com.soulsspeedruns.organizer.managers.SettingsManager;
+
+
+/**
+ * LoadingSettingsPanel
+ * <p>
+ * Contains settings related to loading savestates.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class LoadingSettingsPanel extends JPanel
+{
+
+	private static final int MAX_SAVE_CACHE_SIZE = 4096;
+	private static final int MAX_PREFETCH_DEPTH = 10;
+
+	private JSpinner saveCacheSizeSpinner;
+	private JSpinner prefetchDepthSpinner;
+	private JSpinner prefetchBudgetSpinner;
+	private JCheckBox skipIdenticalLoadsCheckbox;
+	private JCheckBox deltaLoadsCheckbox;
+	private JCheckBox atomicLoadsCheckbox;
+
+
+	/**
+	 * Creates a new loading settings panel.
+	 */
+	protected LoadingSettingsPanel()
+	{
+		GroupLayout layout = new GroupLayout(this);
+		layout.setAutoCreateGaps(true);
+		layout.setAutoCreateContainerGaps(true);
+
+		Component glue = Box.createHorizontalGlue();
+
+		JLabel saveCacheSizeLabel = new JLabel("Savestate Cache Size (MB):");
+		saveCacheSizeLabel.setToolTipText("Keeps recently loaded savestates in memory so loading them does not have to read them from disk. 0 disables the cache.");
+		saveCacheSizeSpinner = new JSpinner(new SpinnerNumberModel(SettingsManager.getSaveCacheSize(), 0, MAX_SAVE_CACHE_SIZE, 16));
+
+		JLabel prefetchDepthLabel = new JLabel("Prefetched Neighbours:");
+		prefetchDepthLabel.setToolTipText("How many savestates above and below the selected one are read into memory ahead of time.");
+		prefetchDepthSpinner = new JSpinner(new SpinnerNumberModel(SettingsManager.getPrefetchDepth(), 0, MAX_PREFETCH_DEPTH, 1));
+
+		JLabel prefetchBudgetLabel = new JLabel("Prefetch Budget (MB):");
+		prefetchBudgetLabel.setToolTipText("How much memory may be used to read savestates ahead of time whenever the selection changes. 0 disables prefetching.");
+		prefetchBudgetSpinner = new JSpinner(new SpinnerNumberModel(SettingsManager.getPrefetchBudget(), 0, MAX_SAVE_CACHE_SIZE, 16));
+
+		JLabel skipIdenticalLoadsLabel = new JLabel("Skip Identical Loads:");
+		skipIdenticalLoadsLabel.setToolTipText("Doesn't rewrite the gamefile if it still holds the savestate that is loaded, e.g. when loading the same savestate twice in a row.");
+		skipIdenticalLoadsCheckbox = new JCheckBox("", SettingsManager.isSkipIdenticalLoadsEnabled());
+
+		JLabel deltaLoadsLabel = new JLabel("Delta Loads:");
+		deltaLoadsLabel.setToolTipText("Only rewrites the parts of the gamefile that differ from the savestate that is loaded.");
+		deltaLoadsCheckbox = new JCheckBox("", SettingsManager.isDeltaLoadsEnabled());
+
+		JLabel atomicLoadsLabel = new JLabel("Atomic Loads:");
+		atomicLoadsLabel.setToolTipText(
+				"Replaces the gamefile in one step through a temporary file, so the game never reads a half-written gamefile. The selected savestate is prepared ahead of time. Takes precedence over delta loads.");
+		atomicLoadsCheckbox = new JCheckBox("", SettingsManager.isAtomicLoadsEnabled());
+
+		LoadMetrics metrics = SavesManager.getLoadMetrics();
+		JLabel prefetchHitsLabel = new JLabel("Prefetch Hit Rate:");
+		prefetchHitsLabel.setToolTipText("How many loads since the start of the organizer were served from savestates read ahead of time.");
+		JLabel prefetchHitsValueLabel = new JLabel(metrics.formatRate(metrics.getPrefetchHits()));
+		JLabel skippedLoadsLabel = new JLabel("Skipped Loads:");
+		skippedLoadsLabel.setToolTipText("How many loads since the start of the organizer were skipped because the gamefile already held the savestate.");
+		JLabel skippedLoadsValueLabel = new JLabel(metrics.formatRate(metrics.getSkippedLoads()));
+		JLabel bytesWrittenLabel = new JLabel("Bytes Written:");
+		bytesWrittenLabel.setToolTipText("How much of the loaded savestates actually had to be written to the gamefile since the start of the organizer.");
+		JLabel bytesWrittenValueLabel = new JLabel(metrics.formatBytesWritten());
+
+		// Horizontal
+		GroupLayout.SequentialGroup hGroup = layout.createSequentialGroup();
+
+		hGroup.addGroup(layout.createParallelGroup().addComponent(saveCacheSizeLabel).addComponent(prefetchDepthLabel).addComponent(prefetchBudgetLabel)
+				.addComponent(skipIdenticalLoadsLabel).addComponent(deltaLoadsLabel).addComponent(atomicLoadsLabel).addComponent(prefetchHitsLabel).addComponent(skippedLoadsLabel)
+				.addComponent(bytesWrittenLabel));
+		hGroup.addGroup(layout.createParallelGroup().addComponent(glue));
+		hGroup.addGroup(layout.createParallelGroup(Alignment.TRAILING).addComponent(saveCacheSizeSpinner).addComponent(prefetchDepthSpinner)
+				.addComponent(prefetchBudgetSpinner).addComponent(skipIdenticalLoadsCheckbox).addComponent(deltaLoadsCheckbox).addComponent(atomicLoadsCheckbox)
+				.addComponent(prefetchHitsValueLabel).addComponent(skippedLoadsValueLabel).addComponent(bytesWrittenValueLabel));
+
+		layout.setHorizontalGroup(hGroup);
+
+		// Vertical
+		GroupLayout.SequentialGroup vGroup = layout.createSequentialGroup();
+
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(glue));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(saveCacheSizeLabel).addComponent(saveCacheSizeSpinner));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(prefetchDepthLabel).addComponent(prefetchDepthSpinner));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(prefetchBudgetLabel).addComponent(prefetchBudgetSpinner));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(skipIdenticalLoadsLabel).addComponent(skipIdenticalLoadsCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(deltaLoadsLabel).addComponent(deltaLoadsCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(atomicLoadsLabel).addComponent(atomicLoadsCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(prefetchHitsLabel).addComponent(prefetchHitsValueLabel));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(skippedLoadsLabel).addComponent(skippedLoadsValueLabel));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(bytesWrittenLabel).addComponent(bytesWrittenValueLabel));
+
+		layout.setVerticalGroup(vGroup);
+
+		setLayout(layout);
+		TitledBorder border = BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(EtchedBorder.LOWERED), "Loading");
+		setBorder(border);
+	}
+
+
+	/**
+	 * Applies the changes to the settings to the program.
+	 */
+	protected void applyChanges()
+	{
+		SettingsManager.setSaveCacheSize((Integer) saveCacheSizeSpinner.getValue());
+		SettingsManager.setPrefetchDepth((Integer) prefetchDepthSpinner.getValue());
+		SettingsManager.setPrefetchBudget((Integer) prefetchBudgetSpinner.getValue());
+		SettingsManager.setSkipIdenticalLoadsEnabled(skipIdenticalLoadsCheckbox.isSelected());
+		SettingsManager.setDeltaLoadsEnabled(deltaLoadsCheckbox.isSelected());
+		SettingsManager.setAtomicLoadsEnabled(atomicLoadsCheckbox.isSelected());
+	}
+
+}
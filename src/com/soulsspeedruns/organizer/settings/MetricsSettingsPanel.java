@@ -0,0 +1,186 @@
+package com.soulsspeedruns.organizer.settings;
+
+
+import java.awt.Dimension;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.swing.BorderFactory;
+import javax.swing.GroupLayout;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.border.EtchedBorder;
+import javax.swing.border.TitledBorder;
+import javax.swing.table.AbstractTableModel;
+
+import com.soulsspeedruns.organizer.io.LatencyHistogram;
+import com.soulsspeedruns.organizer.io.LatencyMetrics;
+import com.soulsspeedruns.organizer.io.LatencyMetrics.Phase;
+import com.soulsspeedruns.organizer.managers.SavesManager;
+
+
+/**
+ * MetricsSettingsPanel
+ * <p>
+ * Shows how long loading, importing, replacing and copying savestates took since the start of the organizer.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class MetricsSettingsPanel extends JPanel
+{
+
+	private static final String[] COLUMN_NAMES = { "Phase", "Count", "p50", "p99", "Max" };
+
+	private LatencyTableModel tableModel;
+
+
+	/**
+	 * Creates a new metrics settings panel.
+	 */
+	protected MetricsSettingsPanel()
+	{
+		GroupLayout layout = new GroupLayout(this);
+		layout.setAutoCreateGaps(true);
+		layout.setAutoCreateContainerGaps(true);
+
+		tableModel = new LatencyTableModel();
+		JTable table = new JTable(tableModel);
+		table.setFillsViewportHeight(true);
+		table.getTableHeader().setReorderingAllowed(false);
+		table.getColumnModel().getColumn(0).setPreferredWidth(160);
+		JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(420, table.getRowHeight() * (Phase.values().length + 2)));
+
+		JButton refreshButton = new JButton("Refresh");
+		refreshButton.addActionListener(event -> tableModel.fireTableDataChanged());
+		JButton resetButton = new JButton("Reset");
+		resetButton.addActionListener(event -> {
+			SavesManager.getLatencyMetrics().reset();
+			tableModel.fireTableDataChanged();
+		});
+		JButton exportButton = createExportButton();
+
+		// Horizontal
+		GroupLayout.ParallelGroup hGroup = layout.createParallelGroup(GroupLayout.Alignment.TRAILING);
+
+		hGroup.addComponent(scrollPane);
+		hGroup.addGroup(layout.createSequentialGroup().addComponent(refreshButton).addComponent(resetButton).addComponent(exportButton));
+
+		layout.setHorizontalGroup(hGroup);
+
+		// Vertical
+		GroupLayout.SequentialGroup vGroup = layout.createSequentialGroup();
+
+		vGroup.addComponent(scrollPane);
+		vGroup.addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE).addComponent(refreshButton).addComponent(resetButton)
+				.addComponent(exportButton));
+
+		layout.setVerticalGroup(vGroup);
+
+		setLayout(layout);
+		TitledBorder border = BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(EtchedBorder.LOWERED), "Latencies");
+		setBorder(border);
+	}
+
+
+	/**
+	 * Creates the button to export the latencies as CSV.
+	 *
+	 * @return the export button
+	 */
+	private JButton createExportButton()
+	{
+		JButton exportButton = new JButton("Export CSV");
+		exportButton.addActionListener(event -> {
+			JFileChooser fc = new JFileChooser();
+			fc.setSelectedFile(new File("latencies.csv"));
+			fc.setFileSelectionMode(JFileChooser.FILES_ONLY);
+			int val = fc.showSaveDialog(SwingUtilities.windowForComponent(this));
+			if (val != JFileChooser.APPROVE_OPTION || fc.getSelectedFile() == null)
+				return;
+			try (Writer writer = Files.newBufferedWriter(fc.getSelectedFile().toPath(), StandardCharsets.UTF_8))
+			{
+				SavesManager.getLatencyMetrics().writeCsv(writer);
+			}
+			catch (IOException e)
+			{
+				JOptionPane.showMessageDialog(SwingUtilities.windowForComponent(this), "Error when trying to export the latencies!", "Error occurred",
+						JOptionPane.ERROR_MESSAGE);
+			}
+		});
+		return exportButton;
+	}
+
+
+	/**
+	 * Table model showing one row per timed phase.
+	 */
+	private static class LatencyTableModel extends AbstractTableModel
+	{
+
+		@Override
+		public int getRowCount()
+		{
+			return Phase.values().length;
+		}
+
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMN_NAMES.length;
+		}
+
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return COLUMN_NAMES[column];
+		}
+
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			Phase phase = Phase.values()[row];
+			LatencyHistogram histogram = SavesManager.getLatencyMetrics().getHistogram(phase);
+			switch (column)
+			{
+				case 0:
+					return phase.getDisplayName();
+				case 1:
+					return histogram.getCount();
+				case 2:
+					return formatIfRecorded(histogram, histogram.getValueAtPercentile(50));
+				case 3:
+					return formatIfRecorded(histogram, histogram.getValueAtPercentile(99));
+				default:
+					return formatIfRecorded(histogram, histogram.getMax());
+			}
+		}
+
+
+		@Override
+		public boolean isCellEditable(int row, int column)
+		{
+			return false;
+		}
+
+
+		private String formatIfRecorded(LatencyHistogram histogram, long nanos)
+		{
+			return histogram.getCount() == 0 ? "-" : LatencyMetrics.formatDuration(nanos);
+		}
+
+	}
+
+}
@@ -8,9 +8,11 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 import javax.swing.BorderFactory;
+import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JDialog;
 import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
 import javax.swing.SwingUtilities;
 
 import com.soulsspeedruns.organizer.managers.IconsAndFontsManager;
@@ -31,6 +33,9 @@ public class SettingsWindow extends JDialog
 
 	private GeneralSettingsPanel generalSettingsPanel;
 	private HotkeysSettingsPanel hotkeysSettingsPanel;
+	private LoadingSettingsPanel loadingSettingsPanel;
+	private StorageSettingsPanel storageSettingsPanel;
+	private CaptureSettingsPanel captureSettingsPanel;
 
 
 	/**
@@ -98,8 +103,38 @@ public class SettingsWindow extends JDialog
 
 		generalSettingsPanel = new GeneralSettingsPanel();
 		hotkeysSettingsPanel = new HotkeysSettingsPanel();
-		guiPanel.add(generalSettingsPanel);
-		guiPanel.add(hotkeysSettingsPanel);
+		loadingSettingsPanel = new LoadingSettingsPanel();
+		storageSettingsPanel = new StorageSettingsPanel();
+		captureSettingsPanel = new CaptureSettingsPanel();
+
+		JPanel generalTab = new JPanel();
+		generalTab.setLayout(new BoxLayout(generalTab, BoxLayout.PAGE_AXIS));
+		generalTab.add(generalSettingsPanel);
+		generalTab.add(hotkeysSettingsPanel);
+
+		JPanel loadingTab = new JPanel();
+		loadingTab.setLayout(new BoxLayout(loadingTab, BoxLayout.PAGE_AXIS));
+		loadingTab.add(loadingSettingsPanel);
+		loadingTab.add(Box.createVerticalGlue());
+
+		JPanel storageTab = new JPanel();
+		storageTab.setLayout(new BoxLayout(storageTab, BoxLayout.PAGE_AXIS));
+		storageTab.add(storageSettingsPanel);
+		storageTab.add(captureSettingsPanel);
+		storageTab.add(Box.createVerticalGlue());
+
+		JPanel metricsTab = new JPanel();
+		metricsTab.setLayout(new BoxLayout(metricsTab, BoxLayout.PAGE_AXIS));
+		metricsTab.add(new MetricsSettingsPanel());
+		metricsTab.add(Box.createVerticalGlue());
+
+		JTabbedPane tabbedPane = new JTabbedPane();
+		tabbedPane.addTab("General", generalTab);
+		tabbedPane.addTab("Loading", loadingTab);
+		tabbedPane.addTab("Storage", storageTab);
+		tabbedPane.addTab("Metrics", metricsTab);
+
+		guiPanel.add(tabbedPane);
 		guiPanel.add(new ButtonsSettingsPanel(this));
 
 		add(guiPanel);
@@ -113,6 +148,9 @@ public class SettingsWindow extends JDialog
 	{
 		generalSettingsPanel.applyChanges();
 		hotkeysSettingsPanel.applyChanges();
+		loadingSettingsPanel.applyChanges();
+		storageSettingsPanel.applyChanges();
+		captureSettingsPanel.applyChanges();
 	}
 
 }
@@ -0,0 +1,176 @@
+package com.soulsspeedruns.organizer.settings;
+
+
+import java.awt.Component;
+import java.io.IOException;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.GroupLayout;
+import javax.swing.GroupLayout.Alignment;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.border.EtchedBorder;
+import javax.swing.border.TitledBorder;
+
+import com.soulsspeedruns.organizer.games.Game;
+import com.soulsspeedruns.organizer.io.SaveStore;
+import com.soulsspeedruns.organizer.managers.GamesManager;
+import com.soulsspeedruns.organizer.managers.SettingsManager;
+
+
+/**
+ * StorageSettingsPanel
+ * <p>
+ * Contains settings related to how savestates are stored on disk, and the maintenance actions of the save store of the selected game.
+ *
+ * @author Kahmul (www.twitch.tv/kahmul78)
+ * @date 18 Oct 2026
+ */
+public class StorageSettingsPanel extends JPanel
+{
+
+	private JCheckBox deduplicationCheckbox;
+	private JCheckBox compressionCheckbox;
+	private JButton deduplicateButton;
+	private JButton compressButton;
+	private JButton collectGarbageButton;
+	private JButton exportButton;
+
+
+	/**
+	 * Creates a new storage settings panel.
+	 */
+	protected StorageSettingsPanel()
+	{
+		GroupLayout layout = new GroupLayout(this);
+		layout.setAutoCreateGaps(true);
+		layout.setAutoCreateContainerGaps(true);
+
+		Component glue = Box.createHorizontalGlue();
+
+		JLabel deduplicationLabel = new JLabel("Deduplicate Savestates:");
+		deduplicationLabel.setToolTipText(
+				"Stores each distinct savestate of a game only once and keeps references to it in the profiles, so identical imports and copies take up no extra space.");
+		deduplicationCheckbox = new JCheckBox("", SettingsManager.isDeduplicationEnabled());
+
+		JLabel compressionLabel = new JLabel("Compress Savestates:");
+		compressionLabel.setToolTipText("Compresses newly imported savestates on disk in the background. Loading decompresses them again.");
+		compressionCheckbox = new JCheckBox("", SettingsManager.isCompressionEnabled());
+
+		deduplicateButton = new JButton("Deduplicate Existing");
+		deduplicateButton.setToolTipText("Moves all savestates of the selected game into its save store.");
+		deduplicateButton.addActionListener(event -> runOnStore("Deduplicated %d savestates.", SaveStore::deduplicateAll));
+		compressButton = new JButton("Compress Existing");
+		compressButton.setToolTipText("Compresses all savestates of the selected game.");
+		compressButton.addActionListener(event -> runOnStore("Compressed %d savestates.", SaveStore::compressAll));
+		collectGarbageButton = new JButton("Collect Garbage");
+		collectGarbageButton.setToolTipText("Deletes the stored savestates of the selected game that aren't used by any profile anymore.");
+		collectGarbageButton.addActionListener(event -> runOnStore("Deleted %d unused savestates.", SaveStore::collectGarbage));
+		exportButton = new JButton("Export Plain Files");
+		exportButton.setToolTipText("Replaces all references and compressed savestates of the selected game with plain savefiles.");
+		exportButton.addActionListener(event -> runOnStore("Exported %d savestates.", SaveStore::exportAll));
+
+		// Horizontal
+		GroupLayout.ParallelGroup hGroup = layout.createParallelGroup(Alignment.TRAILING);
+
+		hGroup.addGroup(layout.createSequentialGroup().addGroup(layout.createParallelGroup().addComponent(deduplicationLabel).addComponent(compressionLabel))
+				.addComponent(glue).addGroup(layout.createParallelGroup(Alignment.TRAILING).addComponent(deduplicationCheckbox).addComponent(compressionCheckbox)));
+		hGroup.addGroup(layout.createSequentialGroup().addComponent(deduplicateButton).addComponent(compressButton).addComponent(collectGarbageButton)
+				.addComponent(exportButton));
+
+		layout.setHorizontalGroup(hGroup);
+
+		// Vertical
+		GroupLayout.SequentialGroup vGroup = layout.createSequentialGroup();
+
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(deduplicationLabel).addComponent(glue)
+				.addComponent(deduplicationCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(compressionLabel).addComponent(compressionCheckbox));
+		vGroup.addGroup(layout.createParallelGroup(Alignment.BASELINE).addComponent(deduplicateButton).addComponent(compressButton)
+				.addComponent(collectGarbageButton).addComponent(exportButton));
+
+		layout.setVerticalGroup(vGroup);
+
+		setLayout(layout);
+		TitledBorder border = BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(EtchedBorder.LOWERED), "Storage");
+		setBorder(border);
+	}
+
+
+	/**
+	 * Runs the given action on the save store of the selected game on a separate thread, and shows the result once it is done.
+	 *
+	 * @param resultMessage the message to show, with the number returned by the action as its only argument
+	 * @param action        the action to run
+	 */
+	private void runOnStore(String resultMessage, StoreAction action)
+	{
+		Game game = GamesManager.getSelectedGame();
+		if (game == null || game.getDirectory() == null)
+		{
+			JOptionPane.showMessageDialog(SwingUtilities.windowForComponent(this), "The selected game has no directory set!", "Error occurred",
+					JOptionPane.WARNING_MESSAGE);
+			return;
+		}
+		SaveStore store = new SaveStore(game.getDirectory());
+		setButtonsEnabled(false);
+		Thread thread = new Thread(() -> {
+			String message;
+			int messageType;
+			try
+			{
+				message = String.format(resultMessage, action.run(store));
+				messageType = JOptionPane.INFORMATION_MESSAGE;
+			}
+			catch (IOException e)
+			{
+				message = "Error when trying to access the save store: " + e.getMessage();
+				messageType = JOptionPane.ERROR_MESSAGE;
+			}
+			String finalMessage = message;
+			int finalMessageType = messageType;
+			SwingUtilities.invokeLater(() -> {
+				setButtonsEnabled(true);
+				JOptionPane.showMessageDialog(SwingUtilities.windowForComponent(this), finalMessage, game.getCaption(), finalMessageType);
+			});
+		}, "Save Store");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	private void setButtonsEnabled(boolean enabled)
+	{
+		deduplicateButton.setEnabled(enabled);
+		compressButton.setEnabled(enabled);
+		collectGarbageButton.setEnabled(enabled);
+		exportButton.setEnabled(enabled);
+	}
+
+
+	/**
+	 * Applies the changes to the settings to the program.
+	 */
+	protected void applyChanges()
+	{
+		SettingsManager.setDeduplicationEnabled(deduplicationCheckbox.isSelected());
+		SettingsManager.setCompressionEnabled(compressionCheckbox.isSelected());
+	}
+
+
+	/**
+	 * An action on a save store that returns the number of affected savestates.
+	 */
+	private interface StoreAction
+	{
+
+		int run(SaveStore store) throws IOException;
+
+	}
+
+}